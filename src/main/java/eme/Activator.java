@@ -0,0 +1,27 @@
+package eme;
+
+import org.osgi.framework.BundleActivator;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+
+/**
+ * Activator of the bundle, registers the {@link ExtractionService} as OSGi service while the bundle is active.
+ * @author Timur Saglam
+ */
+public class Activator implements BundleActivator {
+    private ServiceRegistration<ExtractionService> registration;
+
+    @Override
+    public void start(BundleContext context) throws Exception {
+        registration = context.registerService(ExtractionService.class, ExtractionService.getInstance(), null);
+    }
+
+    @Override
+    public void stop(BundleContext context) throws Exception {
+        if (registration != null) {
+            registration.unregister();
+            registration = null;
+        }
+        ExtractionService.getInstance().shutdown();
+    }
+}
@@ -1,6 +1,13 @@
 package eme;
 
+import static eme.properties.BinaryProperty.AST_EXTRACTION;
 import static eme.properties.BinaryProperty.CUSTOM_EXTRACTION_SCOPE;
+import static eme.properties.BinaryProperty.PIPELINED_EXTRACTION;
+import static eme.properties.BinaryProperty.STREAMING_EXTRACTION;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
 
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
@@ -9,6 +16,8 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 
 import eme.extractor.JavaProjectExtractor;
+import eme.extractor.bytecode.BytecodeExtractor;
+import eme.generator.EDataTypeRegistry;
 import eme.generator.EcoreMetamodelGenerator;
 import eme.generator.GeneratedEcoreMetamodel;
 import eme.model.IntermediateModel;
@@ -21,9 +30,11 @@ import eme.ui.SelectionWindow;
  */
 public class EcoreMetamodelExtraction {
     private static final Logger logger = LogManager.getLogger(EcoreMetamodelExtraction.class.getName());
+    private static final int PIPELINE_CAPACITY = 1024;
     private final JavaProjectExtractor extractor;
     private final EcoreMetamodelGenerator generator;
     private final ExtractionProperties properties;
+    private final EDataTypeRegistry registry;
 
     /**
      * Basic constructor. Builds {@link JavaProjectExtractor}, {@link EcoreMetamodelGenerator} and
@@ -32,13 +43,23 @@ public class EcoreMetamodelExtraction {
     public EcoreMetamodelExtraction() {
         logger.info("Started EME...");
         properties = new ExtractionProperties();
-        extractor = new JavaProjectExtractor();
-        generator = new EcoreMetamodelGenerator(properties);
+        extractor = new JavaProjectExtractor(properties);
+        registry = new EDataTypeRegistry();
+        generator = new EcoreMetamodelGenerator(properties, registry);
+    }
+
+    /**
+     * Removes the cached external types, the shared data types and the shared data type templates, which are otherwise
+     * kept between extractions.
+     */
+    public void clearCaches() {
+        extractor.clearCaches();
+        registry.clear();
     }
 
     /**
      * Starts the Ecore metamodel extraction for a specific {@link IProject}. The {@link IProject} will be parsed and an
-     * Ecore metamodel will be build.
+     * Ecore metamodel will be build. If the pipelined extraction is enabled, the extraction and the generation overlap.
      * @param project is the specific {@link IProject} for the extraction.
      * @return the Ecore metamodel.
      */
@@ -46,13 +67,55 @@ public class EcoreMetamodelExtraction {
         logger.info("Started extraction of project " + project.getName());
         check(project); // check if valid.
         IJavaProject javaProject = JavaCore.create(project); // create java project
-        IntermediateModel model = extractor.buildIntermediateModel(javaProject);
+        GeneratedEcoreMetamodel metamodel;
+        if (isPipelined()) {
+            metamodel = new ExtractionPipeline(extractor, generator, PIPELINE_CAPACITY).run(javaProject);
+        } else {
+            IntermediateModel model = extractor.buildIntermediateModel(javaProject);
+            selectExtractionScope(model); // select scope if enabled in properties
+            metamodel = generator.generateMetamodel(model);
+        }
+        generator.saveMetamodel(); // save metamodel
+        return metamodel;
+    }
+
+    /**
+     * Starts the Ecore metamodel extraction for compiled class files. The class folders and JAR files will be parsed and
+     * an Ecore metamodel will be build.
+     * @param name is the name of the extracted library, which is used like a project name.
+     * @param locations are the class folders and JAR files of the library.
+     * @return the Ecore metamodel.
+     */
+    public GeneratedEcoreMetamodel extractFromBytecode(String name, List<File> locations) {
+        return extractFromBytecode(name, locations, Collections.<File>emptyList());
+    }
+
+    /**
+     * Starts the Ecore metamodel extraction for compiled class files. The class folders and JAR files will be parsed and
+     * an Ecore metamodel will be build. The classpath is used to resolve the super classes of the extracted types.
+     * @param name is the name of the extracted library, which is used like a project name.
+     * @param locations are the class folders and JAR files of the library.
+     * @param classpath are the class folders and JAR files of the dependencies of the library.
+     * @return the Ecore metamodel.
+     */
+    public GeneratedEcoreMetamodel extractFromBytecode(String name, List<File> locations, List<File> classpath) {
+        logger.info("Started extraction of class files of " + name);
+        BytecodeExtractor bytecodeExtractor = new BytecodeExtractor(Runtime.getRuntime().availableProcessors());
+        IntermediateModel model = bytecodeExtractor.buildIntermediateModel(name, locations, classpath);
         selectExtractionScope(model); // select scope if enabled in properties
         GeneratedEcoreMetamodel metamodel = generator.generateMetamodel(model);
         generator.saveMetamodel(); // save metamodel
         return metamodel;
     }
 
+    /**
+     * Grants access to the {@link JavaProjectExtractor}, e.g. for the statistics of its caches.
+     * @return the {@link JavaProjectExtractor}.
+     */
+    public JavaProjectExtractor getExtractor() {
+        return extractor;
+    }
+
     /**
      * Grants access to the {@link ExtractionProperties}.
      * @return the {@link ExtractionProperties}.
@@ -73,6 +136,21 @@ public class EcoreMetamodelExtraction {
         }
     }
 
+    /**
+     * Checks whether the extraction and generation may be pipelined. This is not possible with a custom extraction
+     * scope, which needs the complete model, with the streaming extraction, whose lazy content must not be loaded
+     * during the extraction, or with the AST extraction, which parses all compilation units in one batch.
+     */
+    private boolean isPipelined() {
+        if (properties.get(PIPELINED_EXTRACTION)) {
+            if (!properties.get(CUSTOM_EXTRACTION_SCOPE) && !properties.get(STREAMING_EXTRACTION) && !properties.get(AST_EXTRACTION)) {
+                return true;
+            }
+            logger.warn("Pipelined extraction is not supported with a custom extraction scope, streaming extraction or AST extraction.");
+        }
+        return false;
+    }
+
     /**
      * Opens a window for specifying a custom extraction scope. The scope is manifested in the correlating
      * {@link IntermediateModel} through enabling and disabling specific model elements.
@@ -0,0 +1,103 @@
+package eme;
+
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+import org.eclipse.jdt.core.IJavaProject;
+
+import eme.extractor.DaemonThreadFactory;
+import eme.extractor.ExtractionException;
+import eme.extractor.JavaProjectExtractor;
+import eme.generator.EcoreMetamodelGenerator;
+import eme.generator.GeneratedEcoreMetamodel;
+import eme.model.ExtractedType;
+import eme.model.IntermediateModel;
+
+/**
+ * Pipelined execution of the extraction and the generation of a project. The project is extracted by the
+ * {@link JavaProjectExtractor} on a separate thread, while the extracted types flow through a bounded queue into the
+ * classifier generation of the {@link EcoreMetamodelGenerator}. The members of the classifiers are generated as soon
+ * as the extraction is finished and therefore all classifiers are known.
+ * @author Timur Saglam
+ */
+public class ExtractionPipeline {
+    private static final Logger logger = LogManager.getLogger(ExtractionPipeline.class.getName());
+    private final int capacity;
+    private final JavaProjectExtractor extractor;
+    private final EcoreMetamodelGenerator generator;
+
+    /**
+     * Basic constructor.
+     * @param extractor is the {@link JavaProjectExtractor} for the extraction stage.
+     * @param generator is the {@link EcoreMetamodelGenerator} for the generation stage.
+     * @param capacity is the maximal amount of extracted types which wait for their generation.
+     */
+    public ExtractionPipeline(JavaProjectExtractor extractor, EcoreMetamodelGenerator generator, int capacity) {
+        this.extractor = extractor;
+        this.generator = generator;
+        this.capacity = Math.max(1, capacity);
+    }
+
+    /**
+     * Extracts a project and generates its Ecore metamodel with overlapping extraction and generation stages.
+     * @param project is the {@link IJavaProject} to extract.
+     * @return the generated Ecore metamodel.
+     */
+    public GeneratedEcoreMetamodel run(IJavaProject project) {
+        IntermediateModel model = new IntermediateModel(project.getElementName());
+        BlockingQueue<Optional<ExtractedType>> queue = new ArrayBlockingQueue<Optional<ExtractedType>>(capacity); // empty marks the end
+        generator.startMetamodel(model);
+        ExecutorService executor = Executors.newSingleThreadExecutor(new DaemonThreadFactory("EME-ExtractionPipeline"));
+        try {
+            Future<?> extraction = executor.submit(() -> extract(project, model, queue));
+            int types = 0;
+            for (Optional<ExtractedType> type = queue.take(); type.isPresent(); type = queue.take()) {
+                generator.generateType(type.get()); // bare classifier
+                types++;
+            }
+            extraction.get(); // propagates extraction problems, model is complete
+            logger.info("Generated " + types + " classifiers during the extraction.");
+            return generator.finishMetamodel();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ExtractionException("Interrupted while waiting for extracted types.", exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw new ExtractionException("Error while extracting the model.", exception.getCause());
+        } finally {
+            executor.shutdownNow(); // stops the extraction if the generation failed
+        }
+    }
+
+    /**
+     * Extracts the project and passes every extracted type to the queue, followed by the end marker.
+     */
+    private void extract(IJavaProject project, IntermediateModel model, BlockingQueue<Optional<ExtractedType>> queue) {
+        try {
+            extractor.buildIntermediateModel(project, model, type -> put(Optional.of(type), queue));
+        } finally {
+            put(Optional.empty(), queue); // generation stage must not wait forever
+        }
+    }
+
+    /**
+     * Adds a type or the end marker to the queue, waits if the queue is full.
+     */
+    private void put(Optional<ExtractedType> type, BlockingQueue<Optional<ExtractedType>> queue) {
+        try {
+            queue.put(type);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ExtractionException("Interrupted while passing extracted types to the generation.", exception);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package eme;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+import org.eclipse.core.resources.IProject;
+
+import eme.extractor.ExternalTypeCache;
+import eme.generator.GeneratedEcoreMetamodel;
+import eme.properties.ExtractionProperties;
+
+/**
+ * Resident extraction service, which keeps one {@link EcoreMetamodelExtraction} between requests. That way the
+ * properties are only loaded once and the caches of the extraction, like the resolved external types and the shared
+ * data types, stay warm. The service is registered as OSGi service by the {@link Activator} and measures the latency
+ * of every request.
+ * @author Timur Saglam
+ */
+public final class ExtractionService {
+    private static final Logger logger = LogManager.getLogger(ExtractionService.class.getName());
+    private static ExtractionService instance;
+    private EcoreMetamodelExtraction extraction;
+    private long lastLatency;
+    private long maximalLatency;
+    private long requests;
+    private long totalLatency;
+
+    /**
+     * Private constructor, the extraction is created with the first request.
+     */
+    private ExtractionService() {
+        // Singleton
+    }
+
+    /**
+     * Accessor for the shared service instance.
+     * @return the shared {@link ExtractionService}.
+     */
+    public static synchronized ExtractionService getInstance() {
+        if (instance == null) {
+            instance = new ExtractionService();
+        }
+        return instance;
+    }
+
+    /**
+     * Removes all cached data of the resident extraction. The next request starts with cold caches.
+     */
+    public synchronized void clearCaches() {
+        if (extraction != null) {
+            extraction.clearCaches();
+        }
+    }
+
+    /**
+     * Starts the Ecore metamodel extraction for a specific {@link IProject} with the resident extraction.
+     * @param project is the specific {@link IProject} for the extraction.
+     * @return the Ecore metamodel.
+     */
+    public GeneratedEcoreMetamodel extract(IProject project) {
+        return extract(project, properties -> {
+            // Default: do nothing, use default properties.
+        });
+    }
+
+    /**
+     * Starts the Ecore metamodel extraction for a specific {@link IProject} with the resident extraction. The
+     * configuration only applies to this request, the properties are reloaded afterwards.
+     * @param project is the specific {@link IProject} for the extraction.
+     * @param configuration configures the {@link ExtractionProperties} for this request.
+     * @return the Ecore metamodel.
+     */
+    public synchronized GeneratedEcoreMetamodel extract(IProject project, Consumer<ExtractionProperties> configuration) {
+        long start = System.nanoTime();
+        EcoreMetamodelExtraction currentExtraction = getExtraction();
+        try {
+            configuration.accept(currentExtraction.getProperties());
+            return currentExtraction.extract(project);
+        } finally {
+            currentExtraction.getProperties().reload(); // discard request specific configuration
+            record(project.getName(), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Returns the average latency of all requests.
+     * @return the average latency in milliseconds.
+     */
+    public synchronized long getAverageLatency() {
+        return requests == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatency / requests);
+    }
+
+    /**
+     * Returns the latency of the last request.
+     * @return the latency in milliseconds.
+     */
+    public synchronized long getLastLatency() {
+        return TimeUnit.NANOSECONDS.toMillis(lastLatency);
+    }
+
+    /**
+     * Returns the maximal latency of all requests.
+     * @return the maximal latency in milliseconds.
+     */
+    public synchronized long getMaximalLatency() {
+        return TimeUnit.NANOSECONDS.toMillis(maximalLatency);
+    }
+
+    /**
+     * Returns the amount of requests since the start of the service.
+     * @return the amount of requests.
+     */
+    public synchronized long getRequests() {
+        return requests;
+    }
+
+    /**
+     * Removes the resident extraction and its caches. The next request creates a new extraction.
+     */
+    public synchronized void shutdown() {
+        clearCaches();
+        extraction = null;
+    }
+
+    /**
+     * Returns the resident extraction and creates it if necessary.
+     */
+    private EcoreMetamodelExtraction getExtraction() {
+        if (extraction == null) {
+            extraction = new EcoreMetamodelExtraction();
+        }
+        return extraction;
+    }
+
+    /**
+     * Records the latency of a request and logs it together with the statistics of the service.
+     */
+    private void record(String projectName, long latency) {
+        requests++;
+        lastLatency = latency;
+        totalLatency += latency;
+        maximalLatency = Math.max(maximalLatency, latency);
+        if (logger.isInfoEnabled()) {
+            ExternalTypeCache cache = extraction.getExtractor().getTypeCache();
+            logger.info("Extraction of " + projectName + " took " + getLastLatency() + " ms (requests: " + requests + ", average: "
+                    + getAverageLatency() + " ms, max: " + getMaximalLatency() + " ms, cached external types: " + cache.size() + ", hits: "
+                    + cache.getHits() + ", misses: " + cache.getMisses() + ")");
+        }
+    }
+}
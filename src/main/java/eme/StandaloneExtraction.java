@@ -0,0 +1,67 @@
+package eme;
+
+import java.io.File;
+import java.util.List;
+
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+
+import eme.extractor.SourceDirectoryExtractor;
+import eme.generator.EcoreMetamodelGenerator;
+import eme.generator.GeneratedEcoreMetamodel;
+import eme.generator.saving.DirectorySaving;
+import eme.model.IntermediateModel;
+import eme.properties.BinaryProperty;
+import eme.properties.ExtractionProperties;
+
+/**
+ * Entry point for the Ecore metamodel extraction without the Eclipse workspace, e.g. for build services. The sources
+ * are read from plain source directories and the metamodel is saved to a plain output directory. The custom extraction
+ * scope is not supported, because it needs the user interface.
+ * @author Timur Saglam
+ */
+public class StandaloneExtraction {
+    private static final Logger logger = LogManager.getLogger(StandaloneExtraction.class.getName());
+    private static final String DEFAULT_ENCODING = "UTF-8";
+    private final SourceDirectoryExtractor extractor;
+    private final EcoreMetamodelGenerator generator;
+    private final ExtractionProperties properties;
+
+    /**
+     * Basic constructor. Builds {@link SourceDirectoryExtractor} and {@link EcoreMetamodelGenerator}.
+     * @param propertiesFile is the file of the extraction properties. The default values are used if it does not exist.
+     */
+    public StandaloneExtraction(File propertiesFile) {
+        logger.info("Started standalone EME...");
+        properties = new ExtractionProperties(propertiesFile);
+        extractor = new SourceDirectoryExtractor(DEFAULT_ENCODING);
+        generator = new EcoreMetamodelGenerator(properties);
+    }
+
+    /**
+     * Starts the Ecore metamodel extraction for source directories. The sources will be parsed, an Ecore metamodel will
+     * be build and saved in the output directory.
+     * @param name is the name of the extracted project, which is also the name of the Ecore file.
+     * @param sourceDirectories are the source directories of the project.
+     * @param classpath are the JAR files and class folders which are needed to resolve the types of the sources.
+     * @param outputDirectory is the directory where the Ecore file is saved.
+     * @return the Ecore metamodel.
+     */
+    public GeneratedEcoreMetamodel extract(String name, List<File> sourceDirectories, List<File> classpath, File outputDirectory) {
+        logger.info("Started extraction of source directories of " + name);
+        IntermediateModel model = extractor.buildIntermediateModel(name, sourceDirectories, classpath);
+        GeneratedEcoreMetamodel metamodel = generator.generateMetamodel(model);
+        DirectorySaving strategy = new DirectorySaving(outputDirectory);
+        strategy.setSkipUnchanged(properties.get(BinaryProperty.SKIP_UNCHANGED));
+        generator.saveMetamodel(strategy); // save metamodel
+        return metamodel;
+    }
+
+    /**
+     * Grants access to the {@link ExtractionProperties}.
+     * @return the {@link ExtractionProperties}.
+     */
+    public ExtractionProperties getProperties() {
+        return properties;
+    }
+}
@@ -0,0 +1,29 @@
+package eme.extractor;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread factory for numbered daemon threads, which do not prevent the shutdown of the platform.
+ * @author Timur Saglam
+ */
+public class DaemonThreadFactory implements ThreadFactory {
+    private final AtomicInteger counter;
+    private final String name;
+
+    /**
+     * Basic constructor.
+     * @param name is the name of the threads, which is followed by the number of the thread.
+     */
+    public DaemonThreadFactory(String name) {
+        this.name = name;
+        counter = new AtomicInteger();
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
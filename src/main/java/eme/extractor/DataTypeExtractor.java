@@ -10,16 +10,17 @@ import static eme.extractor.JDTUtil.isUnresolved;
 import static eme.extractor.JDTUtil.isVoid;
 import static eme.extractor.JDTUtil.removeGenericArguments;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IField;
-import org.eclipse.jdt.core.IImportDeclaration;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.ILocalVariable;
 import org.eclipse.jdt.core.IMethod;
@@ -28,39 +29,57 @@ import org.eclipse.jdt.core.ITypeParameter;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.Signature;
 
+import eme.model.datatypes.DataTypePool;
 import eme.model.datatypes.ExtractedDataType;
 import eme.model.datatypes.ExtractedField;
 import eme.model.datatypes.ExtractedParameter;
 import eme.model.datatypes.ExtractedTypeParameter;
+import eme.model.datatypes.WildcardStatus;
 
 /**
  * Helper class to deal with type signatures and generate data types. Parses fields, parameters and return types.
+ * Identical data types and generic arguments are shared through a {@link DataTypePool}. Fields and parameters are
+ * variables with an identifier and therefore not shared, but their generic arguments are.
  * @author Timur Saglam
  */
 public class DataTypeExtractor {
     private static final Logger logger = LogManager.getLogger(DataTypeExtractor.class.getName());
     private final Set<String> dataTypes;
+    private final Map<ICompilationUnit, ImportDeclarationIndex> importIndices;
+    private final DataTypePool pool;
+    private final ProgressReporter reporter;
 
     /**
-     * Basic constructor, sets the set for the potential external types.
+     * Basic constructor, sets the set for the potential external types and the pool for the shared data types.
+     * @param reporter is the {@link ProgressReporter} which counts the types resolved through import declarations.
      */
-    public DataTypeExtractor() {
+    public DataTypeExtractor(ProgressReporter reporter) {
+        this(reporter, new DataTypePool());
+    }
+
+    /**
+     * Constructor for a specific pool for the shared data types, which allows sharing the pool between extractions.
+     * @param reporter is the {@link ProgressReporter} which counts the types resolved through import declarations.
+     * @param pool is the {@link DataTypePool} of the shared data types.
+     */
+    public DataTypeExtractor(ProgressReporter reporter, DataTypePool pool) {
+        this.reporter = reporter;
+        this.pool = pool;
         this.dataTypes = new HashSet<String>();
+        importIndices = new HashMap<ICompilationUnit, ImportDeclarationIndex>();
     }
 
     /**
      * Creates {@link ExtractedDataType} from a signature and a declaring {@link IType}. Use this method if the other
-     * methods of the class do not fit your needs (e.g. for throws declarations).
+     * methods of the class do not fit your needs (e.g. for throws declarations). The data type is shared and can not be
+     * modified.
      * @param signature is the signature of the data type.
      * @param declaringType is the declaring {@link IType} of the signature.
      * @return the extracted data type.
      * @throws JavaModelException if there are problems with the JDT API.
      */
     public ExtractedDataType extractDataType(String signature, IType declaringType) throws JavaModelException {
-        int arrayCount = Signature.getArrayCount(signature);
-        ExtractedDataType dataType = new ExtractedDataType(getFullName(signature, declaringType), arrayCount);
-        dataType.setGenericArguments(extractGenericArguments(signature, declaringType));
-        return dataType;
+        return extractDataType(signature, declaringType, WildcardStatus.NO_WILDCARD);
     }
 
     /**
@@ -130,6 +149,14 @@ public class DataTypeExtractor {
         return parameterList;
     }
 
+    /**
+     * Accessor for the {@link DataTypePool} of the shared data types.
+     * @return the pool.
+     */
+    public DataTypePool getDataTypePool() {
+        return pool;
+    }
+
     /**
      * Returns a copy of the set of potential external type names.
      * @return the new set of type names.
@@ -148,15 +175,23 @@ public class DataTypeExtractor {
         }
     }
 
+    /**
+     * Creates a shared {@link ExtractedDataType} from a signature, a declaring {@link IType} and a wild card status. The
+     * generic arguments are extracted first, because shared data types can not be modified.
+     */
+    private ExtractedDataType extractDataType(String signature, IType declaringType, WildcardStatus status) throws JavaModelException {
+        List<ExtractedDataType> genericArguments = extractGenericArguments(signature, declaringType);
+        int arrayCount = Signature.getArrayCount(signature);
+        return pool.get(getFullName(signature, declaringType), arrayCount, status, genericArguments);
+    }
+
     /**
      * Parses generic arguments from signature and returns them in a list.
      */
     private List<ExtractedDataType> extractGenericArguments(String signature, IType declaringType) throws JavaModelException {
         List<ExtractedDataType> genericArguments = new LinkedList<ExtractedDataType>();
         for (String argumentSignature : Signature.getTypeArguments(signature)) { // for every argument
-            ExtractedDataType genericArgument = extractDataType(argumentSignature, declaringType);
-            genericArgument.setWildcardStatus(getWildcardStatus(argumentSignature));
-            genericArguments.add(genericArgument); // add generic type argument
+            genericArguments.add(extractDataType(argumentSignature, declaringType, getWildcardStatus(argumentSignature)));
         }
         return genericArguments;
     }
@@ -196,23 +231,27 @@ public class DataTypeExtractor {
     }
 
     /**
-     * Checks the compilation unit of the declaring type of the unresolved type for package declarations that help to
-     * find the IType.
+     * Checks the compilation unit of the declaring type of the unresolved type for import declarations that help to find
+     * the IType. The import declarations of every compilation unit are indexed once.
      */
     private IType resolveFromImports(String typeName, IType declaringType) throws JavaModelException {
         ICompilationUnit unit = declaringType.getCompilationUnit();
-        IJavaProject project = declaringType.getPackageFragment().getJavaProject(); // project
-        for (IImportDeclaration importDeclaration : unit.getImports()) {
-            String name = importDeclaration.getElementName();
-            if (name.contains(typeName.split("\\.")[0])) { // if package declaration contains outer type
-                IType resolvedType = project.findType(name.substring(0, name.lastIndexOf('.')), typeName);
-                if (resolvedType != null) { // if resolved an existing IType
-                    logger.warn("Resolved type " + getName(resolvedType) + " through import declarations!");
-                    return resolvedType; // was successful
-                }
+        if (unit == null) { // binary type, no import declarations
+            return null;
+        }
+        ImportDeclarationIndex index = importIndices.get(unit);
+        if (index == null) { // first unresolved type of the unit
+            index = new ImportDeclarationIndex(unit);
+            importIndices.put(unit, index);
+        }
+        IType resolvedType = index.resolve(typeName);
+        if (resolvedType != null) { // if resolved an existing IType
+            reporter.count(ProgressCounter.IMPORT_RESOLUTIONS);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Resolved type " + getName(resolvedType) + " through import declarations!");
             }
         }
-        return null;
+        return resolvedType;
     }
 
     /**
@@ -0,0 +1,108 @@
+package eme.extractor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+
+/**
+ * Cache of resolved external {@link IType}s, which keeps them between multiple extractions of the same projects. The
+ * cache is bounded and evicts the least recently used types. Cached types that no longer exist or are no longer on the
+ * classpath of their project, e.g. after a library was exchanged, are evicted on access.
+ * Types which could not be resolved are not cached, because they might be added to the project later.
+ * @author Timur Saglam
+ */
+public class ExternalTypeCache {
+    private static final char SEPARATOR = '/';
+    private long hits;
+    private long misses;
+    private final Map<String, IType> types;
+
+    /**
+     * Basic constructor, creates an empty cache with a specific capacity.
+     * @param capacity is the maximum amount of cached types.
+     */
+    public ExternalTypeCache(int capacity) {
+        types = new LinkedHashMap<String, IType>(capacity, 0.75f, true) { // access order for LRU
+            private static final long serialVersionUID = -2419720354216208851L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IType> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Removes all types from the cache and resets the statistics.
+     */
+    public synchronized void clear() {
+        types.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+    /**
+     * Returns the cached {@link IType} of an external type of a project.
+     * @param project is the {@link IJavaProject} which references the type.
+     * @param typeName is the full name of the type.
+     * @return the {@link IType} or null if it is not cached, does not exist anymore or is not on the classpath anymore.
+     */
+    public synchronized IType get(IJavaProject project, String typeName) {
+        String key = key(project, typeName);
+        IType type = types.get(key);
+        if (type != null && (!type.exists() || !project.isOnClasspath(type))) { // stale entry
+            types.remove(key);
+            type = null;
+        }
+        if (type == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return type;
+    }
+
+    /**
+     * Returns the amount of lookups which were answered from the cache.
+     * @return the amount of cache hits.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the amount of lookups which were not answered from the cache.
+     * @return the amount of cache misses.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Stores the resolved {@link IType} of an external type of a project.
+     * @param project is the {@link IJavaProject} which references the type.
+     * @param typeName is the full name of the type.
+     * @param type is the resolved {@link IType}.
+     */
+    public synchronized void put(IJavaProject project, String typeName, IType type) {
+        types.put(key(project, typeName), type);
+    }
+
+    /**
+     * Returns the amount of cached types.
+     * @return the amount of types.
+     */
+    public synchronized int size() {
+        return types.size();
+    }
+
+    /**
+     * Builds the key of a type name of a project, because the same type name can resolve to different types in
+     * different projects.
+     */
+    private String key(IJavaProject project, String typeName) {
+        return project.getElementName() + SEPARATOR + typeName;
+    }
+}
@@ -0,0 +1,171 @@
+package eme.extractor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+
+/**
+ * Resolves the {@link IType}s of potential external types with {@link IJavaProject#findType(String)}. The lookups are
+ * either done sequentially or concurrently with a bounded amount of threads, because most of the time of a lookup is
+ * spent waiting for the index of the JDT. Optionally, all types are first searched with one batched query of the
+ * {@link SearchEngine}, which means only the types that were not found that way are looked up individually. Types
+ * which are contained in the {@link ExternalTypeCache} are not looked up at all.
+ * @author Timur Saglam
+ */
+public class ExternalTypeResolver {
+    private final boolean batched;
+    private final ExternalTypeCache cache;
+    private final IJavaProject project;
+    private final int threads;
+
+    /**
+     * Basic constructor.
+     * @param project is the {@link IJavaProject} which is used to find the types.
+     * @param threads is the maximal amount of concurrent lookups. Values smaller than two mean sequential lookups.
+     * @param batched determines whether the types are searched with one batched query first.
+     * @param cache is the {@link ExternalTypeCache} which stores the resolved types between extractions.
+     */
+    public ExternalTypeResolver(IJavaProject project, int threads, boolean batched, ExternalTypeCache cache) {
+        this.project = project;
+        this.threads = threads;
+        this.batched = batched;
+        this.cache = cache;
+    }
+
+    /**
+     * Resolves the {@link IType}s of a collection of full type names.
+     * @param typeNames are the full names of the types, e.g. "java.util.List".
+     * @return the map of type names to {@link IType}s, sorted by name. Contains only the types which were found.
+     * @throws JavaModelException if there are problems with the JDT API.
+     */
+    public SortedMap<String, IType> resolve(Collection<String> typeNames) throws JavaModelException {
+        SortedSet<String> remainingNames = new TreeSet<String>(typeNames);
+        SortedMap<String, IType> types = new TreeMap<String, IType>();
+        for (String typeName : typeNames) { // warm cache first
+            IType cachedType = cache.get(project, typeName);
+            if (cachedType != null) {
+                types.put(typeName, cachedType);
+                remainingNames.remove(typeName);
+            }
+        }
+        SortedMap<String, IType> resolvedTypes = new TreeMap<String, IType>();
+        if (batched && !remainingNames.isEmpty()) {
+            Set<String> ambiguousNames = new HashSet<String>();
+            resolvedTypes.putAll(search(remainingNames, ambiguousNames));
+            remainingNames.removeAll(resolvedTypes.keySet());
+            remainingNames.removeIf(name -> !name.contains(".") && !ambiguousNames.contains(name)); // found by the search
+        }
+        if (threads < 2 || remainingNames.size() < 2) {
+            resolvedTypes.putAll(resolveSequentially(remainingNames));
+        } else {
+            resolvedTypes.putAll(resolveConcurrently(remainingNames));
+        }
+        for (Map.Entry<String, IType> entry : resolvedTypes.entrySet()) {
+            cache.put(project, entry.getKey(), entry.getValue());
+        }
+        types.putAll(resolvedTypes);
+        return types;
+    }
+
+    /**
+     * Resolves the types with a fixed thread pool and collects the results in sorted order.
+     */
+    private SortedMap<String, IType> resolveConcurrently(SortedSet<String> typeNames) throws JavaModelException {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, typeNames.size()), new DaemonThreadFactory("EME-TypeResolver"));
+        try {
+            List<Future<IType>> futures = new ArrayList<Future<IType>>(typeNames.size());
+            for (String typeName : typeNames) {
+                futures.add(executor.submit(() -> project.findType(typeName)));
+            }
+            SortedMap<String, IType> types = new TreeMap<String, IType>();
+            int index = 0;
+            for (String typeName : typeNames) { // same order as the futures
+                IType type = futures.get(index++).get();
+                if (type != null) {
+                    types.put(typeName, type);
+                }
+            }
+            return types;
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof JavaModelException) {
+                throw (JavaModelException) exception.getCause();
+            }
+            throw new ExtractionException("Error while resolving external types.", exception.getCause());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ExtractionException("Interrupted while resolving external types.", exception);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Resolves the types one after another.
+     */
+    private SortedMap<String, IType> resolveSequentially(SortedSet<String> typeNames) throws JavaModelException {
+        SortedMap<String, IType> types = new TreeMap<String, IType>();
+        for (String typeName : typeNames) {
+            IType type = project.findType(typeName); // try to find IType
+            if (type != null) {
+                types.put(typeName, type);
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Searches all types with their simple names in one query of the {@link SearchEngine} and keeps the matches whose
+     * fully qualified names are wanted. The matches are not reported in classpath order, therefore names with multiple
+     * matches are not kept but collected as ambiguous names, which have to be resolved like {@link IJavaProject#findType}.
+     */
+    private SortedMap<String, IType> search(SortedSet<String> typeNames, Set<String> ambiguousNames) throws JavaModelException {
+        SortedSet<String> simpleNames = new TreeSet<String>();
+        for (String typeName : typeNames) {
+            simpleNames.add(typeName.substring(typeName.lastIndexOf('.') + 1));
+        }
+        char[][] simpleNameArray = new char[simpleNames.size()][];
+        int index = 0;
+        for (String simpleName : simpleNames) {
+            simpleNameArray[index++] = simpleName.toCharArray();
+        }
+        SortedMap<String, IType> types = new TreeMap<String, IType>();
+        IJavaSearchScope scope = SearchEngine.createJavaSearchScope(new IJavaElement[] { project });
+        TypeNameMatchRequestor requestor = new TypeNameMatchRequestor() {
+            @Override
+            public void acceptTypeNameMatch(TypeNameMatch match) {
+                String name = match.getFullyQualifiedName();
+                if (typeNames.contains(name) && !ambiguousNames.contains(name)) {
+                    if (!types.containsKey(name)) {
+                        types.put(name, match.getType());
+                    } else if (!types.get(name).equals(match.getType())) { // same name in multiple classpath entries
+                        types.remove(name);
+                        ambiguousNames.add(name);
+                    }
+                }
+            }
+        };
+        new SearchEngine().searchAllTypeNames(null, simpleNameArray, scope, requestor, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, null);
+        return types;
+    }
+}
@@ -0,0 +1,83 @@
+package eme.extractor;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IImportDeclaration;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Index of the import declarations of one {@link ICompilationUnit}, which is used to resolve nested types (e.g.
+ * "Outer.Inner") whose outer type is imported. Maps the simple names of the single type imports to their qualifiers and
+ * keeps the packages of the on demand imports. Resolved types and failed resolutions are cached.
+ * @author Timur Saglam
+ */
+public class ImportDeclarationIndex {
+    private final Map<String, IType> cache;
+    private final Map<String, String> importedTypes;
+    private final List<String> onDemandPackages;
+    private final IJavaProject project;
+
+    /**
+     * Basic constructor, builds the index from the import declarations of a compilation unit.
+     * @param unit is the {@link ICompilationUnit}.
+     * @throws JavaModelException if there are problems with the JDT API.
+     */
+    public ImportDeclarationIndex(ICompilationUnit unit) throws JavaModelException {
+        project = unit.getJavaProject();
+        cache = new HashMap<String, IType>();
+        importedTypes = new HashMap<String, String>();
+        onDemandPackages = new LinkedList<String>();
+        for (IImportDeclaration declaration : unit.getImports()) {
+            String name = declaration.getElementName();
+            String qualifier = name.substring(0, Math.max(0, name.lastIndexOf('.')));
+            if (declaration.isOnDemand()) {
+                onDemandPackages.add(qualifier); // e.g. "java.util" for "java.util.*"
+            } else {
+                importedTypes.putIfAbsent(name.substring(name.lastIndexOf('.') + 1), qualifier);
+            }
+        }
+    }
+
+    /**
+     * Resolves a nested type name with the help of the import declarations.
+     * @param typeName is the nested type name, e.g. "Outer.Inner".
+     * @return the resolved {@link IType} or null if it could not be resolved.
+     * @throws JavaModelException if there are problems with the JDT API.
+     */
+    public IType resolve(String typeName) throws JavaModelException {
+        if (cache.containsKey(typeName)) {
+            return cache.get(typeName); // also caches failed resolutions
+        }
+        IType type = lookUp(typeName);
+        cache.put(typeName, type);
+        return type;
+    }
+
+    /**
+     * Looks up a nested type in the package of the imported outer type or in the on demand imported packages.
+     */
+    private IType lookUp(String typeName) throws JavaModelException {
+        int separator = typeName.indexOf('.');
+        String outerType = separator == -1 ? typeName : typeName.substring(0, separator);
+        String packageName = importedTypes.get(outerType);
+        if (packageName != null) { // outer type is imported
+            IType type = project.findType(packageName, typeName);
+            if (type != null) {
+                return type;
+            }
+        }
+        for (String onDemandPackage : onDemandPackages) {
+            IType type = project.findType(onDemandPackage, typeName);
+            if (type != null) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
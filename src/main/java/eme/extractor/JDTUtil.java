@@ -1,10 +1,13 @@
 package eme.extractor;
 
+import java.util.List;
+
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.Signature;
+import org.eclipse.jdt.core.dom.ITypeBinding;
 
 import eme.model.datatypes.AccessLevelModifier;
 import eme.model.datatypes.WildcardStatus;
@@ -29,14 +32,24 @@ public final class JDTUtil {
      * @throws JavaModelException if there is a problem with the JDT API.
      */
     public static AccessLevelModifier getModifier(IMember member) throws JavaModelException {
-        int flags = member.getFlags();
+        return getModifier(member.getFlags(), member.getDeclaringType().isInterface());
+    }
+
+    /**
+     * Determines the access level modifier from the modifier flags of a member, which are the same for the Java model
+     * and the AST, and returns it as {@link AccessLevelModifier}.
+     * @param flags are the modifier flags of the member.
+     * @param inInterface specifies whether the member is declared in an interface.
+     * @return the {@link AccessLevelModifier}.
+     */
+    public static AccessLevelModifier getModifier(int flags, boolean inInterface) {
         if (Flags.isPublic(flags)) {
             return AccessLevelModifier.PUBLIC;
         } else if (Flags.isPrivate(flags)) {
             return AccessLevelModifier.PRIVATE;
         } else if (Flags.isProtected(flags)) {
             return AccessLevelModifier.PROTECTED;
-        } else if (member.getDeclaringType().isInterface()) {
+        } else if (inInterface) {
             return AccessLevelModifier.PUBLIC; // default visibility in interface is public.
         }
         return AccessLevelModifier.NO_MODIFIER; // default visibility in any other case is package visibility.
@@ -106,6 +119,21 @@ public final class JDTUtil {
         return Flags.isAbstract(member.getFlags());
     }
 
+    /**
+     * Checks if a method is an accessor method, which means its name fits the name of a field of its declaring type.
+     * @param methodName is the name of the method.
+     * @param fieldNames are the names of the fields of the declaring type.
+     * @param parameters is the amount of parameters of the method.
+     * @param returnsVoid specifies whether the method has no return type.
+     * @return true if it is.
+     */
+    public static boolean isAccessor(String methodName, List<String> fieldNames, int parameters, boolean returnsVoid) {
+        if (isAccessMethod("get", methodName, fieldNames) || isAccessMethod("is", methodName, fieldNames)) { // if name fits
+            return parameters == 0 && !returnsVoid;
+        }
+        return false;
+    }
+
     /**
      * Checks if a {@link IMember} is an enum by checking its flags.
      * @param member is the {@link IMember}.
@@ -126,6 +154,21 @@ public final class JDTUtil {
         return Flags.isFinal(member.getFlags());
     }
 
+    /**
+     * Checks if a method is a mutator method, which means its name fits the name of a field of its declaring type.
+     * @param methodName is the name of the method.
+     * @param fieldNames are the names of the fields of the declaring type.
+     * @param parameters is the amount of parameters of the method.
+     * @param returnsVoid specifies whether the method has no return type.
+     * @return true if it is.
+     */
+    public static boolean isMutator(String methodName, List<String> fieldNames, int parameters, boolean returnsVoid) {
+        if (isAccessMethod("set", methodName, fieldNames)) { // if name fits
+            return parameters == 1 && returnsVoid;
+        }
+        return false;
+    }
+
     /**
      * Checks if a type name is a nested type (OuterType.InnerType).
      * @param name is the name of the type.
@@ -164,6 +207,15 @@ public final class JDTUtil {
         return Signature.SIG_VOID.equals(signature);
     }
 
+    /**
+     * Checks if an {@link ITypeBinding} is the primitive type void. A missing binding counts as void.
+     * @param binding is the {@link ITypeBinding}.
+     * @return true if it is void.
+     */
+    public static boolean isVoid(ITypeBinding binding) {
+        return binding == null || binding.isPrimitive() && "void".equals(binding.getName());
+    }
+
     /**
      * Removes any generic arguments from a type name.
      * @param name is the type name.
@@ -172,4 +224,17 @@ public final class JDTUtil {
     public static String removeGenericArguments(String name) {
         return name.substring(0, name.lastIndexOf(Signature.C_GENERIC_START));
     }
-}
\ No newline at end of file
+
+    /**
+     * Checks whether a method name is the name of an access method (either an accessor or an mutator, depending on the
+     * prefix) of one of the fields.
+     */
+    private static boolean isAccessMethod(String prefix, String methodName, List<String> fieldNames) {
+        for (String fieldName : fieldNames) { // for ever field of the type:
+            if (methodName.equalsIgnoreCase(prefix + fieldName)) {
+                return true; // is access method if name scheme fits for one field
+            }
+        }
+        return false; // is not an access method if no field fits
+    }
+}
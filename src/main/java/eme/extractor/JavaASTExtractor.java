@@ -0,0 +1,408 @@
+package eme.extractor;
+
+import static eme.extractor.JDTUtil.getModifier;
+import static eme.extractor.JDTUtil.isAccessor;
+import static eme.extractor.JDTUtil.isMutator;
+import static eme.extractor.JDTUtil.isVoid;
+
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.AnnotationTypeMemberDeclaration;
+import org.eclipse.jdt.core.dom.ArrayType;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.EnumConstantDeclaration;
+import org.eclipse.jdt.core.dom.EnumDeclaration;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.Modifier;
+import org.eclipse.jdt.core.dom.ParameterizedType;
+import org.eclipse.jdt.core.dom.SimpleType;
+import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
+import org.eclipse.jdt.core.dom.Type;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+
+import eme.model.ExtractedClass;
+import eme.model.ExtractedEnum;
+import eme.model.ExtractedEnumConstant;
+import eme.model.ExtractedInterface;
+import eme.model.ExtractedMethod;
+import eme.model.ExtractedType;
+import eme.model.IntermediateModel;
+import eme.model.MethodType;
+import eme.model.datatypes.DataTypePool;
+import eme.model.datatypes.ExtractedDataType;
+import eme.model.datatypes.ExtractedField;
+import eme.model.datatypes.ExtractedParameter;
+import eme.model.datatypes.ExtractedTypeParameter;
+import eme.model.datatypes.WildcardStatus;
+
+/**
+ * Alternative extractor which parses all compilation units of a project in one batch with the {@link ASTParser} and
+ * builds the extracted types directly from the resolved {@link ITypeBinding}s. The bindings already contain the fully
+ * qualified type names, which means no type has to be resolved through the Java model.
+ * @author Timur Saglam
+ */
+public class JavaASTExtractor {
+    private static final Logger logger = LogManager.getLogger(JavaASTExtractor.class.getName());
+    private static final String MAIN_PARAMETER = "java.lang.String[]";
+    private final Set<String> dataTypes;
+    private final DataTypePool pool;
+    private final ProgressReporter reporter;
+
+    /**
+     * Basic constructor, sets the pool for the shared data types.
+     * @param pool is the {@link DataTypePool} of the shared data types.
+     * @param reporter is the {@link ProgressReporter} which counts the extracted types.
+     */
+    public JavaASTExtractor(DataTypePool pool, ProgressReporter reporter) {
+        this.pool = pool;
+        this.reporter = reporter;
+        dataTypes = new HashSet<String>();
+    }
+
+    /**
+     * Parses a list of {@link ICompilationUnit}s in one batch and adds the extracted types to the packages of an
+     * {@link IntermediateModel}. The packages have to be added to the model beforehand.
+     * @param project is the {@link IJavaProject} of the compilation units, which is used to resolve the bindings.
+     * @param units are the {@link ICompilationUnit}s.
+     * @param model is the {@link IntermediateModel}.
+     */
+    public void extract(IJavaProject project, List<ICompilationUnit> units, IntermediateModel model) {
+        ASTParser parser = ASTParser.newParser(AST.JLS8);
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parser.setProject(project);
+        parser.setResolveBindings(true);
+        reporter.startPhase("parsing compilation units", units.size());
+        parser.createASTs(units.toArray(new ICompilationUnit[units.size()]), new String[0], new ASTRequestor() {
+            @Override
+            public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+                reporter.step(source.getElementName());
+                for (ExtractedType type : extractTypes(ast)) {
+                    model.addTo(type, model.getPackage(source.getParent().getElementName()));
+                }
+            }
+        }, null);
+        reporter.finishPhase();
+    }
+
+    /**
+     * Extracts all types of a {@link CompilationUnit} with resolved bindings, including its nested types. The types
+     * are returned in the order of their declaration, outer types before their nested types.
+     * @param unit is the {@link CompilationUnit}.
+     * @return the list of {@link ExtractedType}s.
+     */
+    public List<ExtractedType> extractTypes(CompilationUnit unit) {
+        List<ExtractedType> types = new LinkedList<ExtractedType>();
+        for (Object declaration : unit.types()) { // for every top level type
+            extractTypes((AbstractTypeDeclaration) declaration, types);
+        }
+        return types;
+    }
+
+    /**
+     * Returns a copy of the set of potential external type names.
+     * @return the new set of type names.
+     */
+    public Set<String> getDataTypes() {
+        return new HashSet<String>(dataTypes);
+    }
+
+    /**
+     * Parses an {@link AnnotationTypeMemberDeclaration} and adds it to an {@link ExtractedType} as a method without
+     * parameters, like annotation members are represented in the Java model.
+     */
+    private void extractAnnotationMember(AnnotationTypeMemberDeclaration declaration, ITypeBinding declaringType, ExtractedType extractedType) {
+        IMethodBinding binding = declaration.resolveBinding();
+        if (binding == null) {
+            return; // unresolvable annotation member
+        }
+        String name = extractedType.getFullName() + "." + binding.getName();
+        ExtractedMethod method = new ExtractedMethod(name, extractDataType(binding.getReturnType(), WildcardStatus.NO_WILDCARD));
+        int modifiers = declaration.getModifiers(); // explicit modifiers, like the Java model flags
+        method.setAbstract(Modifier.isAbstract(modifiers));
+        method.setMethodType(extractMethodType(binding));
+        method.setModifier(getModifier(modifiers, declaringType.isInterface()));
+        extractedType.addMethod(method);
+    }
+
+    /**
+     * Parses the {@link MethodType} of a method from its {@link IMethodBinding}.
+     */
+    private MethodType extractMethodType(IMethodBinding binding) {
+        List<String> fieldNames = new LinkedList<String>();
+        for (IVariableBinding field : binding.getDeclaringClass().getDeclaredFields()) {
+            fieldNames.add(field.getName());
+        }
+        int parameters = binding.getParameterTypes().length;
+        boolean returnsVoid = isVoid(binding.getReturnType());
+        if (binding.isConstructor()) {
+            return MethodType.CONSTRUCTOR;
+        } else if (isAccessor(binding.getName(), fieldNames, parameters, returnsVoid)) {
+            return MethodType.ACCESSOR;
+        } else if (isMutator(binding.getName(), fieldNames, parameters, returnsVoid)) {
+            return MethodType.MUTATOR;
+        } else if (isMainMethod(binding)) {
+            return MethodType.MAIN;
+        }
+        return MethodType.NORMAL;
+    }
+
+    /**
+     * Creates a shared {@link ExtractedDataType} from an {@link ITypeBinding} and a wild card status. Wild cards are
+     * represented through their bound, as in the {@link DataTypeExtractor}.
+     */
+    private ExtractedDataType extractDataType(ITypeBinding binding, WildcardStatus status) {
+        if (binding.isWildcardType()) {
+            ITypeBinding bound = binding.getBound();
+            if (bound == null) { // unbound wild card
+                return pool.get(getFullName(binding), 0, WildcardStatus.UNBOUND, new LinkedList<ExtractedDataType>());
+            }
+            return extractDataType(bound, binding.isUpperbound() ? WildcardStatus.UPPER_BOUND : WildcardStatus.LOWER_BOUND);
+        }
+        ITypeBinding elementType = binding.isArray() ? binding.getElementType() : binding;
+        return pool.get(getFullName(elementType), binding.getDimensions(), status, extractGenericArguments(elementType));
+    }
+
+    /**
+     * Parses an enumeration from its {@link EnumDeclaration}, including its constants.
+     */
+    private ExtractedEnum extractEnum(EnumDeclaration declaration, String name) {
+        ExtractedEnum extractedEnum = new ExtractedEnum(name);
+        for (Object constant : declaration.enumConstants()) {
+            String constantName = ((EnumConstantDeclaration) constant).getName().getIdentifier();
+            extractedEnum.addConstant(new ExtractedEnumConstant(constantName));
+        }
+        return extractedEnum;
+    }
+
+    /**
+     * Parses the fields of a {@link FieldDeclaration} and adds them to an {@link ExtractedType}.
+     */
+    private void extractFields(FieldDeclaration declaration, ITypeBinding declaringType, ExtractedType extractedType) {
+        int modifiers = declaration.getModifiers(); // explicit modifiers, like the Java model flags
+        for (Object fragment : declaration.fragments()) {
+            IVariableBinding binding = ((VariableDeclarationFragment) fragment).resolveBinding();
+            if (binding != null) {
+                ITypeBinding type = binding.getType();
+                ITypeBinding elementType = type.isArray() ? type.getElementType() : type;
+                ExtractedField field = new ExtractedField(binding.getName(), getFullName(elementType), type.getDimensions());
+                field.setGenericArguments(extractGenericArguments(elementType));
+                field.setFinal(Modifier.isFinal(modifiers));
+                field.setStatic(Modifier.isStatic(modifiers));
+                field.setModifier(getModifier(modifiers, declaringType.isInterface()));
+                extractedType.addField(field);
+            }
+        }
+    }
+
+    /**
+     * Parses the generic arguments of an {@link ITypeBinding} and returns them in a list.
+     */
+    private List<ExtractedDataType> extractGenericArguments(ITypeBinding binding) {
+        List<ExtractedDataType> genericArguments = new LinkedList<ExtractedDataType>();
+        for (ITypeBinding argument : binding.getTypeArguments()) { // empty if not parameterized
+            genericArguments.add(extractDataType(argument, WildcardStatus.NO_WILDCARD));
+        }
+        return genericArguments;
+    }
+
+    /**
+     * Parses the header of a type declaration, which is its kind, its name, its outer type, its type parameters and its
+     * super class.
+     */
+    private ExtractedType extractHeader(AbstractTypeDeclaration declaration, ITypeBinding binding) {
+        ExtractedType extractedType;
+        String name = getFullName(binding);
+        if (declaration instanceof EnumDeclaration) {
+            extractedType = extractEnum((EnumDeclaration) declaration, name);
+        } else if (binding.isInterface()) { // interfaces and annotations
+            extractedType = new ExtractedInterface(name);
+        } else {
+            boolean abstractClass = Modifier.isAbstract(declaration.getModifiers());
+            ExtractedClass extractedClass = new ExtractedClass(name, abstractClass, isThrowable(binding));
+            if (((TypeDeclaration) declaration).getSuperclassType() != null && binding.getSuperclass() != null) {
+                extractedClass.setSuperClass(extractDataType(binding.getSuperclass(), WildcardStatus.NO_WILDCARD));
+            }
+            extractedType = extractedClass;
+        }
+        if (binding.getDeclaringClass() != null) { // if is inner type
+            extractedType.setOuterType(getFullName(binding.getDeclaringClass()));
+        }
+        extractedType.setTypeParameters(extractTypeParameters(binding.getTypeParameters()));
+        return extractedType;
+    }
+
+    /**
+     * Parses a {@link MethodDeclaration} and adds it to an {@link ExtractedType}. Implicit default constructors are not
+     * part of the AST and therefore never extracted.
+     */
+    private void extractMethod(MethodDeclaration declaration, ITypeBinding declaringType, ExtractedType extractedType) {
+        IMethodBinding binding = declaration.resolveBinding();
+        if (binding == null) {
+            return; // unresolvable method
+        }
+        ITypeBinding returnType = binding.getReturnType();
+        String name = extractedType.getFullName() + "." + binding.getName();
+        ExtractedMethod method = new ExtractedMethod(name, isVoid(returnType) ? null : extractDataType(returnType, WildcardStatus.NO_WILDCARD));
+        int modifiers = declaration.getModifiers(); // explicit modifiers, like the Java model flags
+        method.setAbstract(Modifier.isAbstract(modifiers));
+        method.setStatic(Modifier.isStatic(modifiers));
+        method.setMethodType(extractMethodType(binding));
+        method.setModifier(getModifier(modifiers, declaringType.isInterface()));
+        method.setTypeParameters(extractTypeParameters(binding.getTypeParameters()));
+        for (Object parameter : declaration.parameters()) { // extract parameters:
+            method.addParameter(extractParameter((SingleVariableDeclaration) parameter));
+        }
+        for (ITypeBinding exception : binding.getExceptionTypes()) { // extract throw declarations:
+            method.addThrowsDeclaration(extractDataType(exception, WildcardStatus.NO_WILDCARD));
+        }
+        extractedType.addMethod(method);
+    }
+
+    /**
+     * Parses a method parameter from its {@link SingleVariableDeclaration}.
+     */
+    private ExtractedParameter extractParameter(SingleVariableDeclaration declaration) {
+        IVariableBinding binding = declaration.resolveBinding();
+        ITypeBinding type = binding == null ? declaration.getType().resolveBinding() : binding.getType();
+        if (declaration.isVarargs() && type != null && !type.isArray()) {
+            type = type.createArrayType(1); // variable arity parameters are arrays
+        }
+        String name = declaration.getName().getIdentifier();
+        if (type == null) { // unresolvable parameter type
+            return extractUnresolvedParameter(name, declaration);
+        }
+        ITypeBinding elementType = type.isArray() ? type.getElementType() : type;
+        ExtractedParameter parameter = new ExtractedParameter(name, getFullName(elementType), type.getDimensions());
+        parameter.setGenericArguments(extractGenericArguments(elementType));
+        return parameter;
+    }
+
+    /**
+     * Parses a type declaration and its nested type declarations and adds the extracted types to a list.
+     */
+    private void extractTypes(AbstractTypeDeclaration declaration, List<ExtractedType> types) {
+        ITypeBinding binding = declaration.resolveBinding();
+        if (binding == null) {
+            logger.warn("Could not resolve the binding of type " + declaration.getName() + ", skipping it.");
+            return;
+        }
+        ExtractedType extractedType = extractHeader(declaration, binding);
+        types.add(extractedType);
+        reporter.count(ProgressCounter.TYPES);
+        List<AbstractTypeDeclaration> nestedTypes = new LinkedList<AbstractTypeDeclaration>();
+        for (Object member : declaration.bodyDeclarations()) { // fields and methods in declaration order
+            BodyDeclaration body = (BodyDeclaration) member;
+            if (body instanceof FieldDeclaration) {
+                extractFields((FieldDeclaration) body, binding, extractedType);
+            } else if (body instanceof MethodDeclaration) {
+                extractMethod((MethodDeclaration) body, binding, extractedType);
+            } else if (body instanceof AnnotationTypeMemberDeclaration) {
+                extractAnnotationMember((AnnotationTypeMemberDeclaration) body, binding, extractedType);
+            } else if (body instanceof AbstractTypeDeclaration) {
+                nestedTypes.add((AbstractTypeDeclaration) body);
+            }
+        }
+        for (ITypeBinding superInterface : binding.getInterfaces()) {
+            extractedType.addInterface(extractDataType(superInterface, WildcardStatus.NO_WILDCARD));
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Parsed " + extractedType);
+        }
+        for (AbstractTypeDeclaration nestedType : nestedTypes) { // nested types after their outer type
+            extractTypes(nestedType, types);
+        }
+    }
+
+    /**
+     * Parses a method parameter whose type can not be resolved. Like unresolved signatures in the
+     * {@link DataTypeExtractor}, the type name is used without generic arguments and is a potential external type.
+     */
+    private ExtractedParameter extractUnresolvedParameter(String name, SingleVariableDeclaration declaration) {
+        Type type = declaration.getType();
+        int dimensions = declaration.getExtraDimensions(); // e.g. String args[]
+        if (declaration.isVarargs()) {
+            dimensions++; // variable arity parameters are arrays
+        }
+        if (type.isArrayType()) {
+            dimensions += ((ArrayType) type).getDimensions();
+            type = ((ArrayType) type).getElementType();
+        }
+        if (type.isParameterizedType()) {
+            type = ((ParameterizedType) type).getType(); // remove generic arguments
+        }
+        String typeName = type.isSimpleType() ? ((SimpleType) type).getName().getFullyQualifiedName() : type.toString();
+        dataTypes.add(typeName); // potential external type
+        return new ExtractedParameter(name, typeName, dimensions);
+    }
+
+    /**
+     * Generates a list of {@link ExtractedTypeParameter}s from the {@link ITypeBinding}s of type variables.
+     */
+    private List<ExtractedTypeParameter> extractTypeParameters(ITypeBinding[] typeVariables) {
+        List<ExtractedTypeParameter> parameters = new LinkedList<ExtractedTypeParameter>();
+        for (ITypeBinding typeVariable : typeVariables) {
+            ExtractedTypeParameter parameter = new ExtractedTypeParameter(typeVariable.getName());
+            for (ITypeBinding bound : typeVariable.getTypeBounds()) { // explicit bounds only
+                parameter.add(extractDataType(bound, WildcardStatus.NO_WILDCARD));
+            }
+            parameters.add(parameter);
+        }
+        return parameters;
+    }
+
+    /**
+     * Returns the full name of an {@link ITypeBinding} without generic arguments and adds it to the potential external
+     * types, e.g "java.lang.String", "java.util.List" or "char".
+     */
+    private String getFullName(ITypeBinding binding) {
+        String name;
+        if (binding.isWildcardType()) {
+            name = "?";
+        } else if (binding.isTypeVariable() || binding.isPrimitive()) {
+            name = binding.getName();
+        } else {
+            name = binding.getErasure().getQualifiedName();
+        }
+        dataTypes.add(name); // potential external type
+        return name;
+    }
+
+    /**
+     * Checks whether a method is a main method, which is public, static, void and has a string array parameter.
+     */
+    private boolean isMainMethod(IMethodBinding method) {
+        int modifiers = method.getModifiers();
+        ITypeBinding[] parameters = method.getParameterTypes();
+        return "main".equals(method.getName()) && Modifier.isPublic(modifiers) && Modifier.isStatic(modifiers)
+                && isVoid(method.getReturnType()) && parameters.length == 1 && MAIN_PARAMETER.equals(parameters[0].getQualifiedName());
+    }
+
+    /**
+     * Checks whether a type extends {@link java.lang.Throwable} by walking its super class bindings.
+     */
+    private boolean isThrowable(ITypeBinding binding) {
+        for (ITypeBinding superClass = binding.getSuperclass(); superClass != null; superClass = superClass.getSuperclass()) {
+            if (Throwable.class.getName().equals(superClass.getErasure().getQualifiedName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -3,11 +3,16 @@ package eme.extractor;
 import static eme.extractor.JDTUtil.getModifier;
 import static eme.extractor.JDTUtil.getName;
 import static eme.extractor.JDTUtil.isAbstract;
+import static eme.extractor.JDTUtil.isAccessor;
 import static eme.extractor.JDTUtil.isEnum;
 import static eme.extractor.JDTUtil.isFinal;
+import static eme.extractor.JDTUtil.isMutator;
 import static eme.extractor.JDTUtil.isStatic;
 import static eme.extractor.JDTUtil.isVoid;
 
+import java.util.LinkedList;
+import java.util.List;
+
 import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.ILocalVariable;
 import org.eclipse.jdt.core.IMethod;
@@ -83,11 +88,17 @@ public class JavaMemberExtractor {
      * Parses the {@link MethodType} of an {@link IMethod}.
      */
     private MethodType extractMethodType(IMethod method) throws JavaModelException {
+        List<String> fieldNames = new LinkedList<String>();
+        for (IField field : method.getDeclaringType().getFields()) {
+            fieldNames.add(field.getElementName());
+        }
+        int parameters = method.getNumberOfParameters();
+        boolean returnsVoid = isVoid(method.getReturnType());
         if (method.isConstructor()) {
             return MethodType.CONSTRUCTOR;
-        } else if (isAccessor(method)) {
+        } else if (isAccessor(method.getElementName(), fieldNames, parameters, returnsVoid)) {
             return MethodType.ACCESSOR;
-        } else if (isMutator(method)) {
+        } else if (isMutator(method.getElementName(), fieldNames, parameters, returnsVoid)) {
             return MethodType.MUTATOR;
         } else if (method.isMainMethod()) {
             return MethodType.MAIN;
@@ -104,37 +115,4 @@ public class JavaMemberExtractor {
         extractedMethod.setMethodType(extractMethodType(method));
         extractedMethod.setModifier(getModifier(method));
     }
-
-    /**
-     * Checks whether a {@link IMethod} is an access method (either an accessor or an mutator, depending on the prefix).
-     */
-    private boolean isAccessMethod(String prefix, IMethod method) throws JavaModelException {
-        IType type = method.getDeclaringType();
-        for (IField field : type.getFields()) { // for ever field of IType:
-            if (method.getElementName().equalsIgnoreCase(prefix + field.getElementName())) {
-                return true; // is access method if name scheme fits for one field
-            }
-        }
-        return false; // is not an access method if no field fits
-    }
-
-    /**
-     * Checks whether a {@link IMethod} is an accessor method.
-     */
-    private boolean isAccessor(IMethod method) throws JavaModelException {
-        if (isAccessMethod("get", method) || isAccessMethod("is", method)) { // if name fits
-            return method.getNumberOfParameters() == 0 && !isVoid(method.getReturnType());
-        }
-        return false;
-    }
-
-    /**
-     * Checks whether a {@link IMethod} is a mutator method.
-     */
-    private boolean isMutator(IMethod method) throws JavaModelException {
-        if (isAccessMethod("set", method)) { // if name fits
-            return method.getNumberOfParameters() == 1 && isVoid(method.getReturnType());
-        }
-        return false;
-    }
-}
\ No newline at end of file
+}
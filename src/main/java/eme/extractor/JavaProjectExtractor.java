@@ -2,8 +2,10 @@ package eme.extractor;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.function.Consumer;
 
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
@@ -15,53 +17,122 @@ import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
 
 import eme.model.ExtractedPackage;
+import eme.model.ExtractedType;
 import eme.model.IntermediateModel;
+import eme.model.datatypes.DataTypePool;
+import eme.properties.BinaryProperty;
+import eme.properties.ExtractionProperties;
+import eme.properties.TextProperty;
 
 /**
  * The class analyzes java projects and builds intermediate models with the help of the {@link JavaTypeExtractor},
- * {@link JavaMemberExtractor} and {@link DataTypeExtractor}.
+ * {@link JavaMemberExtractor} and {@link DataTypeExtractor}. Alternatively, the source types are extracted in one
+ * batch by the {@link JavaASTExtractor}. In the streaming mode, only the type headers are extracted eagerly, while
+ * the content of the types is extracted on demand and can be released after the generation of each type.
  * @author Timur Saglam
  */
 public class JavaProjectExtractor {
     private static final Logger logger = LogManager.getLogger(JavaProjectExtractor.class.getName());
+    private static final int CACHE_CAPACITY = 16384;
+    private JavaASTExtractor astExtractor;
     private IntermediateModel currentModel;
     private ExtractedPackage currentPackage;
+    private Consumer<ExtractedType> currentListener;
     private DataTypeExtractor dataTypeExtractor;
-    private int packageCounter;
+    private DataTypePool pool;
+    private final ExtractionProperties properties;
+    private ProgressReporter reporter;
+    private boolean streaming;
+    private final ExternalTypeCache typeCache;
     private JavaTypeExtractor typeExtractor;
 
+    /**
+     * Basic constructor.
+     * @param properties is the instance of the {@link ExtractionProperties} class.
+     */
+    public JavaProjectExtractor(ExtractionProperties properties) {
+        this.properties = properties;
+        pool = new DataTypePool();
+        typeCache = new ExternalTypeCache(CACHE_CAPACITY);
+    }
+
     /**
      * Analyzes a {@link IJavaProject} and builds an {@link IntermediateModel}.
      * @param project is the {@link IJavaProject} to analyze.
      * @return an intermediate model that was extracted from the project.
      */
     public IntermediateModel buildIntermediateModel(IJavaProject project) {
+        return buildIntermediateModel(project, new IntermediateModel(project.getElementName()), type -> {}); // no listener
+    }
+
+    /**
+     * Analyzes a {@link IJavaProject} and builds an {@link IntermediateModel}, while passing every extracted type of
+     * the project to a listener directly after it was added to the model. The types of the batch extraction from syntax
+     * trees are not passed to the listener.
+     * @param project is the {@link IJavaProject} to analyze.
+     * @param model is the empty {@link IntermediateModel} which receives the extracted content.
+     * @param typeListener receives the extracted types of the project.
+     * @return the intermediate model that was extracted from the project.
+     */
+    public IntermediateModel buildIntermediateModel(IJavaProject project, IntermediateModel model, Consumer<ExtractedType> typeListener) {
+        currentModel = model;
+        currentListener = typeListener;
         setup(project);
         try {
             extractPackages(project); // extract from project
-            typeExtractor.extractExternalTypes(dataTypeExtractor.getDataTypes()); // extract potential external
+            typeExtractor.extractExternalTypes(getDataTypes()); // extract potential external
+            if (streaming) { // data types of lazy content are resolved on demand
+                currentModel.setExternalTypeResolver(typeExtractor::resolveExternalType);
+            }
         } catch (JavaModelException exception) {
             throw new ExtractionException("Error while extracting the model.", exception);
         }
         currentModel.sort(); // sort model content
+        reporter.printSummary(); // print extraction counters
         currentModel.print(); // print intermediate model.
         return currentModel;
     }
 
+    /**
+     * Removes all cached external types and shared data types, which are otherwise kept between extractions.
+     */
+    public void clearCaches() {
+        pool = new DataTypePool();
+        typeCache.clear();
+    }
+
+    /**
+     * Returns the cache of the resolved external types, which is kept between extractions.
+     * @return the {@link ExternalTypeCache}.
+     */
+    public ExternalTypeCache getTypeCache() {
+        return typeCache;
+    }
+
     /**
      * Extracts all compilation units from a list of package fragments. It then extracts all ICompilationUnits while
-     * updating the current package.
+     * updating the current package. In the streaming mode, the types are extracted lazily and the compilation units are
+     * closed afterwards, which frees their cached JDT element infos.
      */
     private void extractCompilationUnits(List<IPackageFragment> fragments) throws JavaModelException {
+        reporter.startPhase("parsing packages", fragments.size());
         for (IPackageFragment fragment : fragments) { // for every package fragment
             currentPackage = currentModel.getPackage(fragment.getElementName()); // model package
-            reportProgress(fragments.size());
+            reporter.step(currentPackage.getFullName());
+            reporter.count(ProgressCounter.PACKAGES);
             for (ICompilationUnit unit : fragment.getCompilationUnits()) { // get compilation units
                 for (IType type : unit.getAllTypes()) { // for all types
-                    currentModel.addTo(typeExtractor.extractType(type), currentPackage);
+                    ExtractedType extractedType = streaming ? typeExtractor.extractLazily(type) : typeExtractor.extractType(type);
+                    currentModel.addTo(extractedType, currentPackage);
+                    currentListener.accept(extractedType);
+                    reporter.count(ProgressCounter.TYPES);
+                }
+                if (streaming && !unit.isWorkingCopy()) {
+                    unit.close(); // infos are reopened when the content is accessed
                 }
             }
         }
+        reporter.finishPhase();
     }
 
     /**
@@ -81,32 +152,75 @@ public class JavaProjectExtractor {
         for (String name : packageNames) {
             currentModel.add(new ExtractedPackage(name)); // build model packages first
         }
-        extractCompilationUnits(fragments); // then continue parsing
+        if (astExtractor == null) { // then continue parsing
+            extractCompilationUnits(fragments);
+        } else {
+            extractSyntaxTrees(project, fragments);
+        }
     }
 
     /**
-     * Checks if a {@link IPackageFragment} is a source package.
+     * Extracts all compilation units from a list of package fragments in one batch with the {@link JavaASTExtractor}.
      */
-    private boolean isSourcePackage(IPackageFragment packageFragment) throws JavaModelException {
-        return packageFragment.getKind() == IPackageFragmentRoot.K_SOURCE;
+    private void extractSyntaxTrees(IJavaProject project, List<IPackageFragment> fragments) throws JavaModelException {
+        List<ICompilationUnit> units = new LinkedList<ICompilationUnit>();
+        for (IPackageFragment fragment : fragments) { // collect the units of every package fragment
+            reporter.count(ProgressCounter.PACKAGES);
+            for (ICompilationUnit unit : fragment.getCompilationUnits()) {
+                units.add(unit);
+            }
+        }
+        astExtractor.extract(project, units, currentModel);
+    }
+
+    /**
+     * Returns the potential external type names of all used extractors.
+     */
+    private Set<String> getDataTypes() {
+        Set<String> dataTypes = dataTypeExtractor.getDataTypes();
+        if (astExtractor != null) {
+            dataTypes.addAll(astExtractor.getDataTypes());
+        }
+        return dataTypes;
+    }
+
+    /**
+     * Reads the amount of threads for the external type resolution from the properties.
+     */
+    private int getResolutionThreads() {
+        String value = properties.get(TextProperty.RESOLUTION_THREADS);
+        try {
+            return Math.max(1, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException exception) {
+            logger.warn("Invalid amount of external type resolution threads: " + value + ", using one thread.");
+            return 1;
+        }
     }
 
     /**
-     * Reports on the parsing progress by logging the current package.
+     * Checks if a {@link IPackageFragment} is a source package.
      */
-    private void reportProgress(int packages) {
-        packageCounter++; // increase package count
-        logger.info("Parsing package " + currentPackage.getFullName() + " (" + packageCounter + "/" + packages + ")");
-        packageCounter = (packageCounter == packages) ? 0 : packageCounter; // reset to zero if finished
+    private boolean isSourcePackage(IPackageFragment packageFragment) throws JavaModelException {
+        return packageFragment.getKind() == IPackageFragmentRoot.K_SOURCE;
     }
 
     /**
-     * Creates the {@link IntermediateModel} instance and the other extractors.
+     * Creates the extractors for the current {@link IntermediateModel} instance.
      */
     private void setup(IJavaProject project) {
-        currentModel = new IntermediateModel(project.getElementName()); // create new model.
-        dataTypeExtractor = new DataTypeExtractor();
-        typeExtractor = new JavaTypeExtractor(currentModel, project, dataTypeExtractor);
+        reporter = new ProgressReporter(logger);
+        if (pool.size() > CACHE_CAPACITY) { // evict shared data types of previous extractions
+            pool = new DataTypePool();
+        }
+        dataTypeExtractor = new DataTypeExtractor(reporter, pool);
+        boolean batched = properties.get(BinaryProperty.BATCHED_RESOLUTION);
+        ExternalTypeResolver resolver = new ExternalTypeResolver(project, getResolutionThreads(), batched, typeCache);
+        typeExtractor = new JavaTypeExtractor(currentModel, resolver, dataTypeExtractor, reporter);
+        astExtractor = null;
+        if (properties.get(BinaryProperty.AST_EXTRACTION)) { // batch extraction from syntax trees
+            astExtractor = new JavaASTExtractor(dataTypeExtractor.getDataTypePool(), reporter);
+        }
+        streaming = astExtractor == null && properties.get(BinaryProperty.STREAMING_EXTRACTION);
         logger.info("Started parsing the project...");
     }
 }
\ No newline at end of file
@@ -4,13 +4,18 @@ import static eme.extractor.JDTUtil.getName;
 import static eme.extractor.JDTUtil.isAbstract;
 import static eme.extractor.JDTUtil.isEnum;
 
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jdt.core.IField;
-import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.JavaModelException;
@@ -32,18 +37,22 @@ public class JavaTypeExtractor {
     private final DataTypeExtractor dataTypeExtractor;
     private final JavaMemberExtractor memberExtractor;
     private final IntermediateModel model;
-    private final IJavaProject project;
+    private final ProgressReporter reporter;
+    private final ExternalTypeResolver resolver;
 
     /**
      * Basic constructor.
      * @param model sets the intermediate model.
-     * @param project sets the current project, which is extracted.
+     * @param resolver sets the {@link ExternalTypeResolver}, which finds the external types of the current project.
      * @param dataTypeExtractor sets the DataTypeParser.
+     * @param reporter sets the {@link ProgressReporter}.
      */
-    public JavaTypeExtractor(IntermediateModel model, IJavaProject project, DataTypeExtractor dataTypeExtractor) {
+    public JavaTypeExtractor(IntermediateModel model, ExternalTypeResolver resolver, DataTypeExtractor dataTypeExtractor,
+            ProgressReporter reporter) {
         this.dataTypeExtractor = dataTypeExtractor;
+        this.reporter = reporter;
         this.model = model;
-        this.project = project;
+        this.resolver = resolver;
         memberExtractor = new JavaMemberExtractor(dataTypeExtractor);
     }
 
@@ -56,14 +65,41 @@ public class JavaTypeExtractor {
      * @throws JavaModelException if there are problem with the JDT API.
      */
     public void extractExternalTypes(Set<String> externalTypes) throws JavaModelException {
-        logger.info("Parsing external types...");
-        for (String typeName : externalTypes) { // for every potential external type
-            if (model.contains(typeName)) { // if is a true external type
+        SortedSet<String> typeNames = new TreeSet<String>(externalTypes); // sorted for a deterministic model
+        List<String> candidates = new LinkedList<String>();
+        for (String typeName : typeNames) {
+            if (!model.contains(typeName)) { // if is a true external type
+                candidates.add(typeName);
+            }
+        }
+        reporter.startPhase("resolving external types", candidates.size());
+        Map<String, IType> resolvedTypes = resolver.resolve(candidates); // find ITypes first
+        reporter.advance(candidates.size());
+        reporter.finishPhase();
+        reporter.startPhase("parsing external types", typeNames.size());
+        for (String typeName : typeNames) { // for every potential external type
+            reporter.step(typeName);
+            if (model.contains(typeName)) { // if is a pseudo external type
                 extractPseudoExternal(typeName);
-            } else {
-                extractExternal(typeName);
+            } else if (resolvedTypes.containsKey(typeName)) { // if IType was found
+                extractExternal(resolvedTypes.get(typeName));
             }
         }
+        reporter.finishPhase();
+    }
+
+    /**
+     * Parses the header of an {@link IType} eagerly and its content (fields, methods, super interfaces) lazily on the
+     * first access. Whether a class is throwable is extracted eagerly, because it is needed for the type selection.
+     * Lazily extracted types can release their content again, see {@link ExtractedType#release()}.
+     * @param type is the {@link IType} to extract.
+     * @return the extracted type.
+     * @throws JavaModelException if there are problem with the JDT API.
+     */
+    public ExtractedType extractLazily(IType type) throws JavaModelException {
+        ExtractedType extractedType = extractLazyHeader(type, false);
+        extractThrowable(type, extractedType); // only once, not on every reload
+        return extractedType;
     }
 
     /**
@@ -73,22 +109,33 @@ public class JavaTypeExtractor {
      * @throws JavaModelException if there are problem with the JDT API.
      */
     public ExtractedType extractType(IType type) throws JavaModelException {
-        ExtractedType extractedType = null;
-        if (type.isClass()) {
-            extractedType = extractClass(type); // create class
-        } else if (type.isInterface()) {
-            extractedType = extractInterface(type);
-        } else if (type.isEnum()) {
-            extractedType = extractEnum(type); // create enum
+        ExtractedType extractedType = extractHeader(type);
+        extractThrowable(type, extractedType);
+        extractContent(type, extractedType);
+        return extractedType;
+    }
+
+    /**
+     * Resolves a single potential external type on demand. This is used for the data types of lazily extracted content,
+     * which are not known when the external types are extracted.
+     * @param typeName is the full name of the potential external type.
+     * @return the external or pseudo external type, or null if there is none.
+     */
+    public ExtractedType resolveExternalType(String typeName) {
+        if (model.contains(typeName)) { // only inner types are pseudo external types
+            ExtractedType type = model.getType(typeName);
+            return type.isInnerType() ? type : null;
         }
-        extractOuterType(type, extractedType); // extract outer type name
-        extractedType.setTypeParameters(dataTypeExtractor.extractTypeParameters(type.getTypeParameters(), type));
-        memberExtractor.extractFields(type, extractedType); // extract attribute
-        memberExtractor.extractMethods(type, extractedType); // extract methods
-        for (String signature : type.getSuperInterfaceTypeSignatures()) {
-            extractedType.addInterface(dataTypeExtractor.extractDataType(signature, type)); // add interface
+        try {
+            IType type = resolver.resolve(Collections.singleton(typeName)).get(typeName);
+            if (type == null) {
+                return null;
+            }
+            reporter.count(ProgressCounter.EXTERNAL_TYPES);
+            return extractLazyHeader(type, true);
+        } catch (JavaModelException exception) {
+            throw new ExtractionException("Could not resolve the external type " + typeName, exception);
         }
-        return extractedType;
     }
 
     /**
@@ -108,8 +155,7 @@ public class JavaTypeExtractor {
      * Parses an {@link IType} that has been identified as class.
      */
     private ExtractedClass extractClass(IType type) throws JavaModelException {
-        boolean throwable = extendsThrowable(type);
-        ExtractedClass newClass = new ExtractedClass(getName(type), isAbstract(type), throwable);
+        ExtractedClass newClass = new ExtractedClass(getName(type), isAbstract(type), false); // throwable is content
         String signature = type.getSuperclassTypeSignature();
         if (signature != null) { // get full super type:
             newClass.setSuperClass(dataTypeExtractor.extractDataType(signature, type)); // set super
@@ -117,29 +163,78 @@ public class JavaTypeExtractor {
         return newClass;
     }
 
+    /**
+     * Parses the content of an {@link IType}, which are the fields, methods and super interfaces and the enumeration
+     * constants of enumerations.
+     */
+    private void extractContent(IType type, ExtractedType extractedType) throws JavaModelException {
+        if (extractedType instanceof ExtractedEnum) {
+            extractEnumConstants(type, (ExtractedEnum) extractedType);
+        }
+        memberExtractor.extractFields(type, extractedType); // extract attribute
+        memberExtractor.extractMethods(type, extractedType); // extract methods
+        for (String signature : type.getSuperInterfaceTypeSignatures()) {
+            extractedType.addInterface(dataTypeExtractor.extractDataType(signature, type)); // add interface
+        }
+    }
+
     /**
      * Parse an {@link IType} that has been identified as enumeration.
      */
     private ExtractedEnum extractEnum(IType type) throws JavaModelException {
-        ExtractedEnum newEnum = new ExtractedEnum(getName(type));
+        return new ExtractedEnum(getName(type)); // constants are content
+    }
+
+    /**
+     * Parses the constants of an {@link IType} that has been identified as enumeration.
+     */
+    private void extractEnumConstants(IType type, ExtractedEnum extractedEnum) throws JavaModelException {
         for (IField field : type.getFields()) { // for every enumeral
             if (isEnum(field)) {
-                newEnum.addConstant(new ExtractedEnumConstant(field.getElementName())); // add to enum
+                extractedEnum.addConstant(new ExtractedEnumConstant(field.getElementName())); // add to enum
             }
         }
-        return newEnum;
     }
 
     /**
-     * Extracts a external type if it can be found with {@link IJavaProject#findType(String)}.
+     * Extracts a external type from its resolved {@link IType}. Only the header of the type is extracted eagerly, the
+     * content is extracted on first access.
      */
-    private void extractExternal(String typeName) throws JavaModelException {
-        IType type = project.findType(typeName); // try to find IType
-        if (type != null) { // if IType was found:
-            ExtractedType extractedType = extractType(type);
-            logger.info("Resolved external " + extractedType);
-            model.addExternal(extractedType);  // add to model.
+    private void extractExternal(IType type) throws JavaModelException {
+        ExtractedType extractedType = extractLazyHeader(type, true);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Resolved external " + extractedType);
         }
+        model.addExternal(extractedType);  // add to model.
+        reporter.count(ProgressCounter.EXTERNAL_TYPES);
+    }
+
+    /**
+     * Parses the header of an {@link IType}, which is its kind, its name, its outer type, its type parameters and its
+     * super class. Detects whether the type is a (abstract) class, an interface or an enumeration.
+     */
+    private ExtractedType extractHeader(IType type) throws JavaModelException {
+        ExtractedType extractedType = null;
+        if (type.isClass()) {
+            extractedType = extractClass(type); // create class
+        } else if (type.isInterface()) {
+            extractedType = extractInterface(type);
+        } else if (type.isEnum()) {
+            extractedType = extractEnum(type); // create enum
+        }
+        extractOuterType(type, extractedType); // extract outer type name
+        extractedType.setTypeParameters(dataTypeExtractor.extractTypeParameters(type.getTypeParameters(), type));
+        return extractedType;
+    }
+
+    /**
+     * Parses the header of an {@link IType} and sets a loader which extracts the content on first access. For external
+     * types, whether a class is throwable is part of the lazy content, as the super type hierarchy is expensive.
+     */
+    private ExtractedType extractLazyHeader(IType type, boolean lazyThrowable) throws JavaModelException {
+        ExtractedType extractedType = extractHeader(type);
+        extractedType.setLoader(() -> loadContent(type, extractedType, lazyThrowable)); // lazy content
+        return extractedType;
     }
 
     /**
@@ -149,6 +244,30 @@ public class JavaTypeExtractor {
         return new ExtractedInterface(getName(type)); // create interface
     }
 
+    /**
+     * Loads the content of a lazily extracted type. Wraps problems with the JDT API in an
+     * {@link ExtractionException}, because the loading happens on access of the content.
+     */
+    private void loadContent(IType type, ExtractedType extractedType, boolean withThrowable) {
+        try {
+            if (withThrowable) {
+                extractThrowable(type, extractedType);
+            }
+            extractContent(type, extractedType);
+        } catch (JavaModelException exception) {
+            throw new ExtractionException("Could not extract the content of the type " + extractedType, exception);
+        }
+    }
+
+    /**
+     * Sets whether an {@link IType} that has been identified as class inherits from {@link java.lang.Throwable}.
+     */
+    private void extractThrowable(IType type, ExtractedType extractedType) throws JavaModelException {
+        if (extractedType instanceof ExtractedClass) {
+            ((ExtractedClass) extractedType).setThrowable(extendsThrowable(type));
+        }
+    }
+
     /**
      * Parses the outer type name of an {@link IType} if it has one.
      * @param type is the {@link IType}.
@@ -169,7 +288,10 @@ public class JavaTypeExtractor {
         ExtractedType type = model.getType(typeName);
         if (type.isInnerType()) {
             model.addExternal(type);
-            logger.info("Resolved pseudo external " + type);
+            reporter.count(ProgressCounter.PSEUDO_EXTERNAL_TYPES);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Resolved pseudo external " + type);
+            }
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package eme.extractor;
+
+/**
+ * Enumeration for the counters of the {@link ProgressReporter}.
+ * @author Timur Saglam
+ */
+public enum ProgressCounter {
+    PACKAGES("packages"),
+    TYPES("types"),
+    EXTERNAL_TYPES("external types"),
+    PSEUDO_EXTERNAL_TYPES("pseudo external types"),
+    IMPORT_RESOLUTIONS("types resolved through import declarations");
+
+    private final String label;
+
+    /**
+     * Private constructor for enum values with a label.
+     * @param label is the label used in the summary.
+     */
+    ProgressCounter(String label) {
+        this.label = label;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
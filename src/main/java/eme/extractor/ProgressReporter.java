@@ -0,0 +1,135 @@
+package eme.extractor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+
+/**
+ * Rate-limited progress reporting for the extraction. The extraction is divided into phases, whose progress is logged
+ * at most once per interval instead of once per step. Additionally, the reporter counts extracted elements with
+ * {@link ProgressCounter}s and logs them as a summary. No log message is built if the info level is disabled.
+ * @author Timur Saglam
+ */
+public class ProgressReporter {
+    private static final long DEFAULT_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+    private final long[] counters;
+    private final long interval;
+    private long lastReport;
+    private final Logger logger;
+    private String phase;
+    private long phaseStart;
+    private int steps;
+    private int totalSteps;
+
+    /**
+     * Basic constructor, uses a report interval of one second.
+     * @param logger is the {@link Logger} for the reports.
+     */
+    public ProgressReporter(Logger logger) {
+        this(logger, DEFAULT_INTERVAL);
+    }
+
+    /**
+     * Constructor with a custom report interval.
+     * @param logger is the {@link Logger} for the reports.
+     * @param interval is the minimal time between two progress reports in nanoseconds.
+     */
+    public ProgressReporter(Logger logger, long interval) {
+        this.logger = logger;
+        this.interval = interval;
+        counters = new long[ProgressCounter.values().length];
+    }
+
+    /**
+     * Advances the current phase by an amount of steps without reporting them. This can be used for steps which are
+     * done in bulk.
+     * @param amount is the amount of steps.
+     */
+    public void advance(int amount) {
+        steps += amount;
+    }
+
+    /**
+     * Increases a counter by one.
+     * @param counter is the {@link ProgressCounter}.
+     */
+    public void count(ProgressCounter counter) {
+        counters[counter.ordinal()]++;
+    }
+
+    /**
+     * Finishes the current phase and logs how many steps it took, how long it took and the throughput.
+     */
+    public void finishPhase() {
+        if (isEnabled()) {
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - phaseStart);
+            String throughput = millis > 0 ? " (" + (steps * 1000L / millis) + "/s)" : "";
+            logger.info("Finished " + phase + ": " + steps + "/" + totalSteps + " in " + millis + " ms" + throughput);
+        }
+    }
+
+    /**
+     * Accessor for the value of a counter.
+     * @param counter is the {@link ProgressCounter}.
+     * @return the value of the counter.
+     */
+    public long getCount(ProgressCounter counter) {
+        return counters[counter.ordinal()];
+    }
+
+    /**
+     * Logs the values of all counters which are not zero.
+     */
+    public void printSummary() {
+        if (isEnabled()) {
+            StringBuilder builder = new StringBuilder("Extracted");
+            String separator = " ";
+            for (ProgressCounter counter : ProgressCounter.values()) {
+                if (counters[counter.ordinal()] > 0) {
+                    builder.append(separator).append(counters[counter.ordinal()]).append(' ').append(counter);
+                    separator = ", ";
+                }
+            }
+            logger.info(builder.toString());
+        }
+    }
+
+    /**
+     * Starts a new phase of the extraction.
+     * @param name is the name of the phase, e.g. "parsing packages".
+     * @param total is the total amount of steps of the phase.
+     */
+    public void startPhase(String name, int total) {
+        phase = name;
+        totalSteps = total;
+        steps = 0;
+        phaseStart = System.nanoTime();
+        lastReport = phaseStart;
+        if (isEnabled()) {
+            logger.info("Started " + name + " (" + total + ")...");
+        }
+    }
+
+    /**
+     * Reports a step of the current phase. The progress is only logged if the report interval passed since the last
+     * report.
+     * @param detail describes the current step, e.g. the current package. Its string representation is only built if
+     * the progress is logged.
+     */
+    public void step(Object detail) {
+        steps++;
+        long now = System.nanoTime();
+        if (now - lastReport >= interval && isEnabled()) {
+            lastReport = now;
+            logger.info(phase + ": " + detail + " (" + steps + "/" + totalSteps + ")");
+        }
+    }
+
+    /**
+     * Checks whether the reports are logged.
+     */
+    private boolean isEnabled() {
+        return logger.isEnabledFor(Level.INFO);
+    }
+}
@@ -0,0 +1,171 @@
+package eme.extractor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FileASTRequestor;
+
+import eme.model.ExtractedPackage;
+import eme.model.ExtractedType;
+import eme.model.IntermediateModel;
+import eme.model.datatypes.DataTypePool;
+
+/**
+ * Builds intermediate models from plain source directories on the file system, without the Eclipse workspace. The
+ * source files are parsed in one batch by a standalone {@link ASTParser}, which resolves the bindings with the source
+ * directories, a classpath and the boot classpath of the running virtual machine. The types are extracted by the
+ * {@link JavaASTExtractor}.
+ * @author Timur Saglam
+ */
+public class SourceDirectoryExtractor {
+    private static final Logger logger = LogManager.getLogger(SourceDirectoryExtractor.class.getName());
+    private static final String SOURCE_SUFFIX = ".java";
+    private final String encoding;
+
+    /**
+     * Basic constructor.
+     * @param encoding is the encoding of the source files, e.g. "UTF-8".
+     */
+    public SourceDirectoryExtractor(String encoding) {
+        this.encoding = encoding;
+    }
+
+    /**
+     * Analyzes the source files of source directories and builds an {@link IntermediateModel}. Types of the classpath
+     * are not part of the model.
+     * @param name is the name of the model, which is used like the name of a project.
+     * @param sourceDirectories are the source directories, which contain the packages.
+     * @param classpath are the JAR files and class folders which are needed to resolve the types of the sources.
+     * @return the intermediate model that was extracted from the source directories.
+     */
+    public IntermediateModel buildIntermediateModel(String name, List<File> sourceDirectories, List<File> classpath) {
+        logger.info("Started parsing the source directories...");
+        ProgressReporter reporter = new ProgressReporter(logger);
+        JavaASTExtractor astExtractor = new JavaASTExtractor(new DataTypePool(), reporter);
+        String[] sourceFiles = collectSourceFiles(sourceDirectories);
+        String[] encodings = new String[sourceFiles.length];
+        Arrays.fill(encodings, encoding);
+        SortedMap<String, List<ExtractedType>> typesByFile = new TreeMap<String, List<ExtractedType>>();
+        Map<String, String> packageNames = new HashMap<String, String>();
+        reporter.startPhase("parsing source files", sourceFiles.length);
+        createParser(sourceDirectories, classpath).createASTs(sourceFiles, encodings, new String[0], new FileASTRequestor() {
+            @Override
+            public void acceptAST(String sourceFilePath, CompilationUnit ast) {
+                reporter.step(sourceFilePath);
+                packageNames.put(sourceFilePath, ast.getPackage() == null ? "" : ast.getPackage().getName().getFullyQualifiedName());
+                typesByFile.put(sourceFilePath, astExtractor.extractTypes(ast));
+            }
+        }, null);
+        reporter.finishPhase();
+        IntermediateModel model = buildModel(name, packageNames, typesByFile, astExtractor.getDataTypes(), reporter);
+        model.sort(); // sort model content
+        reporter.printSummary(); // print extraction counters
+        model.print(); // print intermediate model.
+        return model;
+    }
+
+    /**
+     * Assembles the intermediate model from the extracted types of all source files.
+     */
+    private IntermediateModel buildModel(String name, Map<String, String> packageNames, SortedMap<String, List<ExtractedType>> typesByFile,
+            Set<String> dataTypes, ProgressReporter reporter) {
+        IntermediateModel model = new IntermediateModel(name);
+        SortedSet<String> allPackageNames = new TreeSet<String>();
+        allPackageNames.add(""); // default package is the root
+        for (String packageName : packageNames.values()) {
+            for (String current = packageName; !current.isEmpty(); current = parentName(current)) {
+                allPackageNames.add(current); // package and all its parents
+            }
+        }
+        for (String packageName : allPackageNames) {
+            model.add(new ExtractedPackage(packageName)); // build model packages first
+            reporter.count(ProgressCounter.PACKAGES);
+        }
+        for (Map.Entry<String, List<ExtractedType>> entry : typesByFile.entrySet()) { // in order of the source files
+            ExtractedPackage parent = model.getPackage(packageNames.get(entry.getKey()));
+            for (ExtractedType type : entry.getValue()) {
+                model.addTo(type, parent);
+            }
+        }
+        for (String typeName : new TreeSet<String>(dataTypes)) { // nested types are pseudo external
+            ExtractedType type = model.getType(typeName);
+            if (type != null && type.isInnerType()) {
+                model.addExternal(type);
+                reporter.count(ProgressCounter.PSEUDO_EXTERNAL_TYPES);
+            }
+        }
+        return model;
+    }
+
+    /**
+     * Collects the paths of all source files of the source directories, sorted by path.
+     */
+    private String[] collectSourceFiles(List<File> sourceDirectories) {
+        List<String> sourceFiles = new ArrayList<String>();
+        for (File directory : sourceDirectories) {
+            try (Stream<Path> paths = Files.walk(directory.toPath())) {
+                sourceFiles.addAll(paths.map(Path::toString).filter(path -> path.endsWith(SOURCE_SUFFIX)).sorted().collect(Collectors.toList()));
+            } catch (IOException exception) {
+                throw new ExtractionException("Error while reading the source directory " + directory, exception);
+            }
+        }
+        return sourceFiles.toArray(new String[sourceFiles.size()]);
+    }
+
+    /**
+     * Creates a standalone {@link ASTParser} with resolved bindings for the Java 8 language level.
+     */
+    private ASTParser createParser(List<File> sourceDirectories, List<File> classpath) {
+        ASTParser parser = ASTParser.newParser(AST.JLS8);
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parser.setResolveBindings(true);
+        parser.setBindingsRecovery(true); // missing classpath entries should not prevent the extraction
+        Map<String, String> options = new HashMap<String, String>();
+        JavaCore.setComplianceOptions(JavaCore.VERSION_1_8, options);
+        parser.setCompilerOptions(options);
+        String[] sourcepath = toPaths(sourceDirectories);
+        String[] encodings = new String[sourcepath.length];
+        Arrays.fill(encodings, encoding);
+        parser.setEnvironment(toPaths(classpath), sourcepath, encodings, true);
+        return parser;
+    }
+
+    /**
+     * Returns the name of the parent package of a package.
+     */
+    private String parentName(String packageName) {
+        int index = packageName.lastIndexOf('.');
+        return index < 0 ? "" : packageName.substring(0, index);
+    }
+
+    /**
+     * Converts a list of files to an array of their absolute paths.
+     */
+    private String[] toPaths(List<File> files) {
+        String[] paths = new String[files.size()];
+        for (int i = 0; i < paths.length; i++) {
+            paths[i] = files.get(i).getAbsolutePath();
+        }
+        return paths;
+    }
+}
@@ -0,0 +1,322 @@
+package eme.extractor.bytecode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+import org.objectweb.asm.ClassReader;
+
+import eme.extractor.DaemonThreadFactory;
+import eme.extractor.ExtractionException;
+import eme.extractor.ProgressCounter;
+import eme.extractor.ProgressReporter;
+import eme.model.ExtractedClass;
+import eme.model.ExtractedPackage;
+import eme.model.ExtractedType;
+import eme.model.IntermediateModel;
+import eme.model.datatypes.DataTypePool;
+
+/**
+ * Builds intermediate models from compiled class files instead of source code. The class files are read from class
+ * folders and JAR files, without any dependency on the Eclipse workspace. Every class file is parsed by its own task
+ * with a {@link ClassFileVisitor}, while the model is assembled sequentially in the order of the class files.
+ * @author Timur Saglam
+ */
+public class BytecodeExtractor {
+    private static final Logger logger = LogManager.getLogger(BytecodeExtractor.class.getName());
+    private static final String CLASS_SUFFIX = ".class";
+    private static final String META_INF = "META-INF/";
+    private static final String OBJECT = "java/lang/Object";
+    private static final Set<String> THROWABLE_ROOTS = new HashSet<String>(
+            Arrays.asList("java/lang/Throwable", "java/lang/Exception", "java/lang/RuntimeException", "java/lang/Error"));
+    private final int threads;
+
+    /**
+     * Basic constructor.
+     * @param threads is the amount of threads which parse class files concurrently.
+     */
+    public BytecodeExtractor(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Analyzes class folders and JAR files and builds an {@link IntermediateModel}. Only the types of the class files
+     * are part of the model. Referenced types which are not contained in the class files can not be resolved and are
+     * therefore no external types of the model.
+     * @param name is the name of the model, which is used like the name of a project.
+     * @param locations are the class folders and JAR files.
+     * @return the intermediate model that was extracted from the class files.
+     */
+    public IntermediateModel buildIntermediateModel(String name, List<File> locations) {
+        return buildIntermediateModel(name, locations, Collections.<File>emptyList());
+    }
+
+    /**
+     * Analyzes class folders and JAR files and builds an {@link IntermediateModel}. Only the types of the class files
+     * are part of the model. The class files of the classpath are only read to resolve the super classes of the types,
+     * which is needed to detect throwable types.
+     * @param name is the name of the model, which is used like the name of a project.
+     * @param locations are the class folders and JAR files.
+     * @param classpath are the class folders and JAR files of the dependencies, e.g. the Java runtime library.
+     * @return the intermediate model that was extracted from the class files.
+     */
+    public IntermediateModel buildIntermediateModel(String name, List<File> locations, List<File> classpath) {
+        logger.info("Started parsing class files...");
+        ProgressReporter reporter = new ProgressReporter(logger);
+        List<ZipFile> archives = new ArrayList<ZipFile>();
+        try {
+            Map<String, Callable<byte[]>> classFiles = new LinkedHashMap<String, Callable<byte[]>>();
+            for (File location : locations) {
+                collectClassFiles(location, classFiles, archives);
+            }
+            Map<String, Callable<byte[]>> dependencies = new HashMap<String, Callable<byte[]>>();
+            for (File location : classpath) {
+                collectClassFiles(location, dependencies, archives);
+            }
+            List<ClassFileVisitor> visitors = parse(new ArrayList<Callable<byte[]>>(classFiles.values()), reporter);
+            IntermediateModel model = buildModel(name, visitors, dependencies, reporter);
+            reporter.printSummary(); // print extraction counters
+            model.print(); // print intermediate model.
+            return model;
+        } catch (IOException exception) {
+            throw new ExtractionException("Error while reading the class files.", exception);
+        } finally {
+            for (ZipFile archive : archives) {
+                close(archive);
+            }
+        }
+    }
+
+    /**
+     * Assembles the intermediate model from the visitors of all class files.
+     */
+    private IntermediateModel buildModel(String name, List<ClassFileVisitor> visitors, Map<String, Callable<byte[]>> dependencies,
+            ProgressReporter reporter) {
+        IntermediateModel model = new IntermediateModel(name);
+        SortedSet<String> packageNames = new TreeSet<String>();
+        packageNames.add(""); // default package is the root
+        Map<String, String> superClasses = new HashMap<String, String>(); // internal names
+        Set<String> dataTypes = new HashSet<String>();
+        for (ClassFileVisitor visitor : visitors) {
+            for (String packageName = visitor.getPackageName(); !packageName.isEmpty(); packageName = parentName(packageName)) {
+                packageNames.add(packageName); // package and all its parents
+            }
+            superClasses.put(visitor.getInternalName(), visitor.getSuperName());
+            dataTypes.addAll(visitor.getDataTypes());
+        }
+        for (String packageName : packageNames) {
+            model.add(new ExtractedPackage(packageName)); // build model packages first
+            reporter.count(ProgressCounter.PACKAGES);
+        }
+        Set<String> unresolved = new HashSet<String>();
+        for (ClassFileVisitor visitor : visitors) {
+            ExtractedType type = visitor.getType();
+            if (type instanceof ExtractedClass) {
+                ((ExtractedClass) type).setThrowable(isThrowable(visitor.getInternalName(), superClasses, dependencies, unresolved));
+            }
+            model.addTo(type, model.getPackage(visitor.getPackageName()));
+            reporter.count(ProgressCounter.TYPES);
+        }
+        for (String typeName : new TreeSet<String>(dataTypes)) { // nested types are pseudo external types
+            ExtractedType type = model.getType(typeName);
+            if (type != null && type.isInnerType()) {
+                model.addExternal(type);
+                reporter.count(ProgressCounter.PSEUDO_EXTERNAL_TYPES);
+            }
+        }
+        model.sort(); // sort model content
+        return model;
+    }
+
+    /**
+     * Closes a JAR file and logs problems.
+     */
+    private void close(ZipFile archive) {
+        try {
+            archive.close();
+        } catch (IOException exception) {
+            logger.warn("Could not close " + archive.getName(), exception);
+        }
+    }
+
+    /**
+     * Adds a reading task for every class file of a class folder or JAR file, keyed by the internal name of the class
+     * file. The first class file of an internal name wins, like on a classpath.
+     */
+    private void collectClassFiles(File location, Map<String, Callable<byte[]>> classFiles, List<ZipFile> archives) throws IOException {
+        if (location.isDirectory()) {
+            collectClassFiles(location.toPath(), classFiles);
+        } else {
+            ZipFile archive = new ZipFile(location);
+            archives.add(archive);
+            collectClassFiles(archive, classFiles);
+        }
+    }
+
+    /**
+     * Adds a reading task for every class file of a class folder, sorted by path.
+     */
+    private void collectClassFiles(Path folder, Map<String, Callable<byte[]>> classFiles) throws IOException {
+        try (Stream<Path> paths = Files.walk(folder)) {
+            for (Path path : paths.filter(file -> file.toString().endsWith(CLASS_SUFFIX)).sorted().collect(Collectors.toList())) {
+                String fileName = folder.relativize(path).toString().replace(File.separatorChar, '/');
+                classFiles.putIfAbsent(internalName(fileName), () -> Files.readAllBytes(path));
+            }
+        }
+    }
+
+    /**
+     * Adds a reading task for every class file of a JAR file, sorted by entry name. Multi-release versions of class
+     * files are ignored.
+     */
+    private void collectClassFiles(ZipFile archive, Map<String, Callable<byte[]>> classFiles) {
+        List<ZipEntry> entries = new ArrayList<ZipEntry>();
+        for (ZipEntry entry : Collections.list(archive.entries())) {
+            if (entry.getName().endsWith(CLASS_SUFFIX) && !entry.getName().startsWith(META_INF)) {
+                entries.add(entry);
+            }
+        }
+        entries.sort((first, second) -> first.getName().compareTo(second.getName()));
+        for (ZipEntry entry : entries) {
+            classFiles.putIfAbsent(internalName(entry.getName()), () -> read(archive, entry));
+        }
+    }
+
+    /**
+     * Returns the internal name of a class file path, e.g. "java/util/Map$Entry" for "java/util/Map$Entry.class".
+     */
+    private String internalName(String fileName) {
+        return fileName.substring(0, fileName.length() - CLASS_SUFFIX.length());
+    }
+
+    /**
+     * Checks whether a type extends {@link java.lang.Throwable} by walking its super classes. Super classes which are not
+     * part of the class files are read from the class files of the classpath. The roots of the exception hierarchy are
+     * fixed by the language specification and therefore known without a classpath. Super classes which can not be
+     * resolved are logged once and treated as not throwable.
+     */
+    private boolean isThrowable(String internalName, Map<String, String> superClasses, Map<String, Callable<byte[]>> dependencies,
+            Set<String> unresolved) {
+        Set<String> visited = new HashSet<String>();
+        String superClass = superClasses.get(internalName);
+        while (superClass != null && visited.add(superClass) && !OBJECT.equals(superClass)) {
+            if (THROWABLE_ROOTS.contains(superClass)) {
+                return true;
+            } else if (!superClasses.containsKey(superClass)) { // not part of the class files
+                if (!dependencies.containsKey(superClass)) {
+                    if (unresolved.add(superClass)) {
+                        logger.warn("Unresolved super class " + superClass.replace('/', '.') + ", its subclasses are treated as not throwable.");
+                    }
+                    return false;
+                }
+                superClasses.put(superClass, readSuperName(superClass, dependencies.get(superClass)));
+            }
+            superClass = superClasses.get(superClass);
+        }
+        return false;
+    }
+
+    /**
+     * Parses all class files concurrently and returns the visitors of the class files which were not skipped, in the
+     * order of the class files.
+     */
+    private List<ClassFileVisitor> parse(List<Callable<byte[]>> sources, ProgressReporter reporter) {
+        DataTypePool pool = new DataTypePool();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new DaemonThreadFactory("EME-BytecodeParser"));
+        try {
+            reporter.startPhase("parsing class files", sources.size());
+            List<Future<ClassFileVisitor>> futures = new ArrayList<Future<ClassFileVisitor>>(sources.size());
+            for (Callable<byte[]> source : sources) {
+                futures.add(executor.submit(() -> parse(source.call(), pool)));
+            }
+            List<ClassFileVisitor> visitors = new ArrayList<ClassFileVisitor>(futures.size());
+            for (Future<ClassFileVisitor> future : futures) {
+                try {
+                    ClassFileVisitor visitor = future.get();
+                    reporter.step(visitor.getType() == null ? "skipped" : visitor.getType().getFullName());
+                    if (visitor.getType() != null) {
+                        visitors.add(visitor);
+                    }
+                } catch (ExecutionException exception) {
+                    logger.warn("Skipped invalid class file.", exception.getCause());
+                }
+            }
+            reporter.finishPhase();
+            return visitors;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ExtractionException("Interrupted while parsing class files.", exception);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Parses a single class file. Stack map frames are skipped, but the code is visited because the local variable
+     * table contains the parameter names.
+     */
+    private ClassFileVisitor parse(byte[] classFile, DataTypePool pool) {
+        ClassFileVisitor visitor = new ClassFileVisitor(pool);
+        new ClassReader(classFile).accept(visitor, ClassReader.SKIP_FRAMES);
+        return visitor;
+    }
+
+    /**
+     * Returns the name of the parent package of a package.
+     */
+    private String parentName(String packageName) {
+        int index = packageName.lastIndexOf('.');
+        return index < 0 ? "" : packageName.substring(0, index);
+    }
+
+    /**
+     * Reads the content of a JAR file entry. The entry size is used to allocate the buffer, if it is known.
+     */
+    private byte[] read(ZipFile archive, ZipEntry entry) throws IOException {
+        int size = entry.getSize() < 0 ? 4096 : (int) entry.getSize();
+        ByteArrayOutputStream output = new ByteArrayOutputStream(size);
+        try (InputStream input = archive.getInputStream(entry)) {
+            byte[] buffer = new byte[Math.max(size, 1)];
+            for (int length = input.read(buffer); length != -1; length = input.read(buffer)) {
+                output.write(buffer, 0, length);
+            }
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Reads the internal name of the super class of a class file of the classpath, without visiting the class file.
+     */
+    private String readSuperName(String internalName, Callable<byte[]> source) {
+        try {
+            return new ClassReader(source.call()).getSuperName();
+        } catch (Exception exception) {
+            throw new ExtractionException("Error while reading the class file of " + internalName.replace('/', '.'), exception);
+        }
+    }
+}
@@ -0,0 +1,433 @@
+package eme.extractor.bytecode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import eme.model.ExtractedClass;
+import eme.model.ExtractedEnum;
+import eme.model.ExtractedEnumConstant;
+import eme.model.ExtractedInterface;
+import eme.model.ExtractedMethod;
+import eme.model.ExtractedType;
+import eme.model.MethodType;
+import eme.model.datatypes.AccessLevelModifier;
+import eme.model.datatypes.DataTypePool;
+import eme.model.datatypes.ExtractedDataType;
+import eme.model.datatypes.ExtractedField;
+import eme.model.datatypes.ExtractedParameter;
+
+/**
+ * Streaming visitor for a single class file, which builds an {@link ExtractedType} with its fields and methods.
+ * Because the inner class entries of a class file are only visited after its header, all information is collected
+ * first and converted when the end of the class file is reached. Synthetic, anonymous and local types and synthetic
+ * members are skipped, as they are not part of the source code.
+ * @author Timur Saglam
+ */
+final class ClassFileVisitor extends ClassVisitor {
+    private static final String CONSTRUCTOR = "<init>";
+    private static final String INITIALIZER = "<clinit>";
+    private static final String MAIN_DESCRIPTOR = "([Ljava/lang/String;)V";
+    private static final String OBJECT = "java/lang/Object";
+    private int access;
+    private final Set<String> dataTypes;
+    private final List<MemberInfo> fields;
+    private String[] interfaces;
+    private final List<MemberInfo> methods;
+    private String name;
+    private final Map<String, String[]> nestedTypes;
+    private String outerName;
+    private final DataTypePool pool;
+    private String signature;
+    private boolean skipped;
+    private boolean staticType;
+    private String superName;
+    private ExtractedType type;
+
+    /**
+     * Basic constructor.
+     * @param pool is the {@link DataTypePool} of the shared data types.
+     */
+    ClassFileVisitor(DataTypePool pool) {
+        super(Opcodes.ASM9);
+        this.pool = pool;
+        dataTypes = new HashSet<String>();
+        fields = new ArrayList<MemberInfo>();
+        methods = new ArrayList<MemberInfo>();
+        nestedTypes = new HashMap<String, String[]>();
+    }
+
+    /**
+     * Returns the names of the data types used by the extracted type.
+     * @return the set of the potential external type names.
+     */
+    Set<String> getDataTypes() {
+        return dataTypes;
+    }
+
+    /**
+     * Returns the internal name of the class file, e.g. "java/util/Map$Entry".
+     * @return the internal name.
+     */
+    String getInternalName() {
+        return name;
+    }
+
+    /**
+     * Returns the package name of the class file, e.g. "java.util".
+     * @return the package name, which is empty for the default package.
+     */
+    String getPackageName() {
+        int index = name.lastIndexOf('/');
+        return index < 0 ? "" : name.substring(0, index).replace('/', '.');
+    }
+
+    /**
+     * Returns the internal name of the super class of the class file.
+     * @return the internal name or null if it has none.
+     */
+    String getSuperName() {
+        return superName;
+    }
+
+    /**
+     * Returns the type which was extracted from the class file.
+     * @return the {@link ExtractedType} or null if the class file was skipped.
+     */
+    ExtractedType getType() {
+        return type;
+    }
+
+    @Override
+    public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+        this.access = access;
+        this.name = name;
+        this.signature = signature;
+        this.superName = superName;
+        this.interfaces = interfaces;
+        staticType = true; // top level types have no outer instance
+        skipped = (access & Opcodes.ACC_SYNTHETIC) != 0 || name.endsWith("package-info") || name.endsWith("module-info");
+    }
+
+    @Override
+    public void visitEnd() {
+        if (!skipped) {
+            SignatureParser parser = new SignatureParser(pool, resolveNestedTypeNames(), dataTypes);
+            type = createType(parser);
+            for (MemberInfo field : fields) {
+                if ((field.access & Opcodes.ACC_ENUM) == 0) { // if is no enumeral
+                    type.addField(createField(field, parser));
+                } else if (type instanceof ExtractedEnum) {
+                    ((ExtractedEnum) type).addConstant(new ExtractedEnumConstant(field.name));
+                }
+            }
+            for (MemberInfo method : methods) {
+                if (!isImplicitEnumMethod(method)) {
+                    type.addMethod(createMethod(method, parser));
+                }
+            }
+        }
+    }
+
+    @Override
+    public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+        if ((access & Opcodes.ACC_SYNTHETIC) == 0) {
+            fields.add(new MemberInfo(access, name, descriptor, signature, null));
+        }
+        return null; // annotations and attributes are not needed
+    }
+
+    @Override
+    public void visitInnerClass(String name, String outerName, String innerName, int access) {
+        if (outerName != null && innerName != null) { // member type
+            nestedTypes.put(name, new String[] { outerName, innerName });
+        }
+        if (name.equals(this.name)) { // entry of the visited type itself
+            skipped |= outerName == null || innerName == null; // anonymous or local type
+            this.outerName = outerName;
+            staticType = (access & (Opcodes.ACC_STATIC | Opcodes.ACC_INTERFACE)) != 0;
+        }
+    }
+
+    @Override
+    public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+        if ((access & (Opcodes.ACC_SYNTHETIC | Opcodes.ACC_BRIDGE)) != 0 || INITIALIZER.equals(name)) {
+            return null; // not part of the source code
+        }
+        MemberInfo method = new MemberInfo(access, name, descriptor, signature, exceptions);
+        methods.add(method);
+        return new ParameterNameVisitor(method);
+    }
+
+    /**
+     * Creates an {@link ExtractedField} from the information of a field.
+     */
+    private ExtractedField createField(MemberInfo field, SignatureParser parser) {
+        ExtractedDataType dataType = parser.parseType(field.signature == null ? field.descriptor : field.signature);
+        ExtractedField extractedField = new ExtractedField(field.name, dataType.getFullType(), dataType.getArrayDimension());
+        extractedField.setGenericArguments(new LinkedList<ExtractedDataType>(dataType.getGenericArguments()));
+        extractedField.setFinal((field.access & Opcodes.ACC_FINAL) != 0);
+        extractedField.setStatic((field.access & Opcodes.ACC_STATIC) != 0);
+        extractedField.setModifier(getModifier(field.access));
+        return extractedField;
+    }
+
+    /**
+     * Creates an {@link ExtractedMethod} from the information of a method.
+     */
+    private ExtractedMethod createMethod(MemberInfo method, SignatureParser parser) {
+        List<ExtractedDataType> parameterTypes = new LinkedList<ExtractedDataType>();
+        List<ExtractedDataType> exceptions = new LinkedList<ExtractedDataType>();
+        ExtractedDataType returnType;
+        if (method.signature == null) { // not generic, use descriptor
+            returnType = parser.parseMethod(method.descriptor, parameterTypes, exceptions);
+            for (int i = 0; i < getSyntheticParameters(method); i++) {
+                parameterTypes.remove(0); // enum name and ordinal or outer instance
+            }
+        } else {
+            returnType = parser.parseMethod(method.signature, parameterTypes, exceptions);
+        }
+        if (exceptions.isEmpty() && method.exceptions != null) { // signature without throws declarations
+            for (String exception : method.exceptions) {
+                exceptions.add(parser.parseType("L" + exception + ";"));
+            }
+        }
+        boolean constructor = CONSTRUCTOR.equals(method.name);
+        String typeName = type.getFullName();
+        String methodName = constructor ? typeName.substring(typeName.lastIndexOf('.') + 1) : method.name;
+        ExtractedMethod extractedMethod = new ExtractedMethod(typeName + "." + methodName, returnType);
+        extractedMethod.setAbstract((method.access & Opcodes.ACC_ABSTRACT) != 0);
+        extractedMethod.setStatic((method.access & Opcodes.ACC_STATIC) != 0);
+        extractedMethod.setMethodType(getMethodType(method, constructor, parameterTypes.size(), returnType == null));
+        extractedMethod.setModifier(getModifier(method.access));
+        extractedMethod.setTypeParameters(parser.parseTypeParameters(method.signature));
+        List<String> parameterNames = getParameterNames(method);
+        int offset = parameterNames.size() - parameterTypes.size(); // names include synthetic parameters
+        int index = 0;
+        for (ExtractedDataType parameterType : parameterTypes) {
+            int nameIndex = offset + index;
+            String parameterName = nameIndex >= 0 && nameIndex < parameterNames.size() ? parameterNames.get(nameIndex) : null;
+            parameterName = parameterName == null ? "arg" + index : parameterName;
+            ExtractedParameter parameter = new ExtractedParameter(parameterName, parameterType.getFullType(), parameterType.getArrayDimension());
+            parameter.setGenericArguments(new LinkedList<ExtractedDataType>(parameterType.getGenericArguments()));
+            extractedMethod.addParameter(parameter);
+            index++;
+        }
+        for (ExtractedDataType exception : exceptions) {
+            extractedMethod.addThrowsDeclaration(exception);
+        }
+        return extractedMethod;
+    }
+
+    /**
+     * Creates the {@link ExtractedType} with its header, which is its kind, its name, its outer type, its type
+     * parameters, its super class and its super interfaces.
+     */
+    private ExtractedType createType(SignatureParser parser) {
+        ExtractedType extractedType;
+        String fullName = parser.getFullName(name);
+        if ((access & Opcodes.ACC_ENUM) != 0) {
+            extractedType = new ExtractedEnum(fullName);
+        } else if ((access & Opcodes.ACC_INTERFACE) != 0) { // interfaces and annotations
+            extractedType = new ExtractedInterface(fullName);
+        } else {
+            extractedType = new ExtractedClass(fullName, (access & Opcodes.ACC_ABSTRACT) != 0, false); // throwable is global
+        }
+        if (outerName != null) { // if is inner type
+            extractedType.setOuterType(parser.getFullName(outerName));
+        }
+        extractedType.setTypeParameters(parser.parseTypeParameters(signature));
+        List<ExtractedDataType> superInterfaces = new LinkedList<ExtractedDataType>();
+        ExtractedDataType superClass = null;
+        if (signature == null) { // not generic, use descriptors
+            superClass = superName == null ? null : parser.parseType("L" + superName + ";");
+            for (String superInterface : interfaces) {
+                superInterfaces.add(parser.parseType("L" + superInterface + ";"));
+            }
+        } else {
+            superClass = parser.parseSuperTypes(signature, superInterfaces);
+        }
+        if (extractedType instanceof ExtractedClass && superClass != null && !OBJECT.equals(superName)) {
+            ((ExtractedClass) extractedType).setSuperClass(superClass);
+        }
+        for (ExtractedDataType superInterface : superInterfaces) {
+            if ((access & Opcodes.ACC_ANNOTATION) == 0) { // annotations implicitly extend Annotation
+                extractedType.addInterface(superInterface);
+            }
+        }
+        return extractedType;
+    }
+
+    /**
+     * Determines the {@link MethodType} of a method.
+     */
+    private MethodType getMethodType(MemberInfo method, boolean constructor, int parameters, boolean returnsVoid) {
+        if (constructor) {
+            return MethodType.CONSTRUCTOR;
+        } else if ((isAccessMethod("get", method) || isAccessMethod("is", method)) && parameters == 0 && !returnsVoid) {
+            return MethodType.ACCESSOR;
+        } else if (isAccessMethod("set", method) && parameters == 1 && returnsVoid) {
+            return MethodType.MUTATOR;
+        } else if ("main".equals(method.name) && MAIN_DESCRIPTOR.equals(method.descriptor)
+                && (method.access & (Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC)) == (Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC)) {
+            return MethodType.MAIN;
+        }
+        return MethodType.NORMAL;
+    }
+
+    /**
+     * Determines the access level modifier from the access flags of a member.
+     */
+    private AccessLevelModifier getModifier(int memberAccess) {
+        if ((memberAccess & Opcodes.ACC_PUBLIC) != 0) {
+            return AccessLevelModifier.PUBLIC;
+        } else if ((memberAccess & Opcodes.ACC_PRIVATE) != 0) {
+            return AccessLevelModifier.PRIVATE;
+        } else if ((memberAccess & Opcodes.ACC_PROTECTED) != 0) {
+            return AccessLevelModifier.PROTECTED;
+        } else if ((access & Opcodes.ACC_INTERFACE) != 0) {
+            return AccessLevelModifier.PUBLIC; // default visibility in interface is public.
+        }
+        return AccessLevelModifier.NO_MODIFIER; // default visibility in any other case is package visibility.
+    }
+
+    /**
+     * Returns the names of all parameters of the descriptor of a method. The names are taken from the method
+     * parameters attribute or the local variable table, missing names are null.
+     */
+    private List<String> getParameterNames(MemberInfo method) {
+        Type[] argumentTypes = Type.getArgumentTypes(method.descriptor);
+        List<String> names = new ArrayList<String>(argumentTypes.length);
+        int slot = (method.access & Opcodes.ACC_STATIC) == 0 ? 1 : 0; // this reference
+        for (int i = 0; i < argumentTypes.length; i++) {
+            String parameterName = i < method.parameterNames.size() ? method.parameterNames.get(i) : null;
+            names.add(parameterName == null ? method.localVariables.get(slot) : parameterName);
+            slot += argumentTypes[i].getSize(); // long and double use two slots
+        }
+        return names;
+    }
+
+    /**
+     * Returns the amount of synthetic parameters of a constructor descriptor, which are the name and ordinal of enum
+     * constants and the outer instance of inner classes.
+     */
+    private int getSyntheticParameters(MemberInfo method) {
+        if (!CONSTRUCTOR.equals(method.name)) {
+            return 0;
+        } else if ((access & Opcodes.ACC_ENUM) != 0) {
+            return 2;
+        }
+        return staticType ? 0 : 1;
+    }
+
+    /**
+     * Checks whether a method is an access method (either an accessor or an mutator, depending on the prefix).
+     */
+    private boolean isAccessMethod(String prefix, MemberInfo method) {
+        for (MemberInfo field : fields) { // for ever field of the type:
+            if (method.name.equalsIgnoreCase(prefix + field.name)) {
+                return true; // is access method if name scheme fits for one field
+            }
+        }
+        return false; // is not an access method if no field fits
+    }
+
+    /**
+     * Checks whether a method is one of the methods values() and valueOf(String), which are implicitly declared by every
+     * enumeration.
+     */
+    private boolean isImplicitEnumMethod(MemberInfo method) {
+        if ((access & Opcodes.ACC_ENUM) == 0 || (method.access & Opcodes.ACC_STATIC) == 0) {
+            return false;
+        }
+        return "values".equals(method.name) && method.descriptor.equals("()[L" + name + ";")
+                || "valueOf".equals(method.name) && method.descriptor.equals("(Ljava/lang/String;)L" + name + ";");
+    }
+
+    /**
+     * Translates the internal names of all member types referenced by the class file to their full names. Outer types
+     * are resolved recursively, because the inner class entries are not ordered.
+     */
+    private Map<String, String> resolveNestedTypeNames() {
+        Map<String, String> names = new HashMap<String, String>();
+        for (String nestedType : nestedTypes.keySet()) {
+            resolveNestedTypeName(nestedType, names);
+        }
+        return names;
+    }
+
+    /**
+     * Translates the internal name of a type to its full name and stores it in a map if it is a member type.
+     */
+    private String resolveNestedTypeName(String internalName, Map<String, String> names) {
+        String fullName = names.get(internalName);
+        if (fullName == null) {
+            String[] entry = nestedTypes.get(internalName);
+            if (entry == null) { // top level type
+                return internalName.replace('/', '.');
+            }
+            fullName = resolveNestedTypeName(entry[0], names) + "." + entry[1];
+            names.put(internalName, fullName);
+        }
+        return fullName;
+    }
+
+    /**
+     * Information of a field or method, which is converted once the whole class file was visited.
+     */
+    private static class MemberInfo {
+        private final int access;
+        private final String descriptor;
+        private final String[] exceptions;
+        private final Map<Integer, String> localVariables;
+        private final String name;
+        private final List<String> parameterNames;
+        private final String signature;
+
+        MemberInfo(int access, String name, String descriptor, String signature, String[] exceptions) {
+            this.access = access;
+            this.name = name;
+            this.descriptor = descriptor;
+            this.signature = signature;
+            this.exceptions = exceptions;
+            localVariables = new HashMap<Integer, String>();
+            parameterNames = new ArrayList<String>();
+        }
+    }
+
+    /**
+     * Method visitor which collects the parameter names of a method, either from the method parameters attribute or
+     * from the local variable table.
+     */
+    private static class ParameterNameVisitor extends MethodVisitor {
+        private final MemberInfo method;
+
+        ParameterNameVisitor(MemberInfo method) {
+            super(Opcodes.ASM9);
+            this.method = method;
+        }
+
+        @Override
+        public void visitLocalVariable(String name, String descriptor, String signature, Label start, Label end, int index) {
+            if (start.getOffset() == 0) { // parameters are in scope from the start of the method
+                method.localVariables.putIfAbsent(index, name);
+            }
+        }
+
+        @Override
+        public void visitParameter(String name, int access) {
+            method.parameterNames.add(name);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package eme.extractor.bytecode;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import eme.model.datatypes.DataTypePool;
+import eme.model.datatypes.ExtractedDataType;
+import eme.model.datatypes.ExtractedTypeParameter;
+import eme.model.datatypes.WildcardStatus;
+
+/**
+ * Parser for the type descriptors and generic signatures of class files, as specified in chapter 4.7.9.1 of the Java
+ * virtual machine specification. Creates shared {@link ExtractedDataType}s and translates the internal names of nested
+ * types with the help of the inner class entries of the class file.
+ * @author Timur Saglam
+ */
+final class SignatureParser {
+    private static final String OBJECT = "java.lang.Object";
+    private final Set<String> dataTypes;
+    private final Map<String, String> nestedTypeNames;
+    private final DataTypePool pool;
+    private int position;
+    private String signature;
+
+    /**
+     * Basic constructor.
+     * @param pool is the {@link DataTypePool} of the shared data types.
+     * @param nestedTypeNames maps the internal names of nested types to their full names.
+     * @param dataTypes is the set which collects the names of all parsed data types.
+     */
+    SignatureParser(DataTypePool pool, Map<String, String> nestedTypeNames, Set<String> dataTypes) {
+        this.pool = pool;
+        this.nestedTypeNames = nestedTypeNames;
+        this.dataTypes = dataTypes;
+    }
+
+    /**
+     * Translates an internal name like "java/util/Map$Entry" to a full name like "java.util.Map.Entry".
+     * @param internalName is the internal name.
+     * @return the full name.
+     */
+    String getFullName(String internalName) {
+        String fullName = nestedTypeNames.get(internalName);
+        return fullName == null ? internalName.replace('/', '.') : fullName;
+    }
+
+    /**
+     * Parses the return type, the parameter types and the exceptions of a method signature or descriptor. The type
+     * parameters have to be parsed first with {@link #parseTypeParameters(String)}.
+     * @param methodSignature is the method signature or descriptor.
+     * @param parameterTypes is the list which receives the parameter types.
+     * @param exceptions is the list which receives the exceptions of the signature.
+     * @return the return type or null if it is void.
+     */
+    ExtractedDataType parseMethod(String methodSignature, List<ExtractedDataType> parameterTypes, List<ExtractedDataType> exceptions) {
+        start(methodSignature);
+        skipTypeParameters();
+        position++; // opening parenthesis
+        while (current() != ')') {
+            parameterTypes.add(parseType(WildcardStatus.NO_WILDCARD));
+        }
+        position++; // closing parenthesis
+        ExtractedDataType returnType = null;
+        if (current() == 'V') {
+            position++; // void
+        } else {
+            returnType = parseType(WildcardStatus.NO_WILDCARD);
+        }
+        while (position < signature.length() && current() == '^') {
+            position++; // exception marker
+            exceptions.add(parseType(WildcardStatus.NO_WILDCARD));
+        }
+        return returnType;
+    }
+
+    /**
+     * Parses the super class and the super interfaces of a class signature. The type parameters have to be parsed first
+     * with {@link #parseTypeParameters(String)}.
+     * @param classSignature is the class signature.
+     * @param superInterfaces is the list which receives the super interfaces.
+     * @return the super class.
+     */
+    ExtractedDataType parseSuperTypes(String classSignature, List<ExtractedDataType> superInterfaces) {
+        start(classSignature);
+        skipTypeParameters();
+        ExtractedDataType superClass = parseType(WildcardStatus.NO_WILDCARD);
+        while (position < signature.length()) {
+            superInterfaces.add(parseType(WildcardStatus.NO_WILDCARD));
+        }
+        return superClass;
+    }
+
+    /**
+     * Parses a single type descriptor or field signature, e.g. "[Ljava/lang/String;" or "Ljava/util/List&lt;TT;&gt;;".
+     * @param typeSignature is the type descriptor or field signature.
+     * @return the shared {@link ExtractedDataType}.
+     */
+    ExtractedDataType parseType(String typeSignature) {
+        start(typeSignature);
+        return parseType(WildcardStatus.NO_WILDCARD);
+    }
+
+    /**
+     * Parses the type parameters of a class or method signature. Bounds of the type {@link Object} are omitted.
+     * @param genericSignature is the class or method signature, may be null.
+     * @return the list of {@link ExtractedTypeParameter}s, which is empty if there are none.
+     */
+    List<ExtractedTypeParameter> parseTypeParameters(String genericSignature) {
+        List<ExtractedTypeParameter> parameters = new LinkedList<ExtractedTypeParameter>();
+        if (genericSignature == null || !genericSignature.startsWith("<")) {
+            return parameters;
+        }
+        start(genericSignature);
+        position++; // opening angle bracket
+        while (current() != '>') {
+            int separator = signature.indexOf(':', position);
+            ExtractedTypeParameter parameter = new ExtractedTypeParameter(signature.substring(position, separator));
+            position = separator;
+            while (current() == ':') { // class bound and interface bounds
+                position++;
+                if (current() != ':' && current() != '>') { // class bound might be empty
+                    ExtractedDataType bound = parseType(WildcardStatus.NO_WILDCARD);
+                    if (!OBJECT.equals(bound.getFullType())) {
+                        parameter.add(bound);
+                    }
+                }
+            }
+            parameters.add(parameter);
+        }
+        return parameters;
+    }
+
+    /**
+     * Creates a shared data type and adds its name to the potential external types.
+     */
+    private ExtractedDataType createType(String fullName, int arrayDimension, WildcardStatus status, List<ExtractedDataType> arguments) {
+        dataTypes.add(fullName);
+        return pool.get(fullName, arrayDimension, status, arguments);
+    }
+
+    /**
+     * Returns the current character of the signature.
+     */
+    private char current() {
+        return signature.charAt(position);
+    }
+
+    /**
+     * Parses a class type signature, including the generic arguments of its last segment.
+     */
+    private ExtractedDataType parseClassType(int arrayDimension, WildcardStatus status) {
+        StringBuilder internalName = new StringBuilder();
+        List<ExtractedDataType> genericArguments = new LinkedList<ExtractedDataType>();
+        while (current() != ';') {
+            char symbol = signature.charAt(position++);
+            if (symbol == '<') { // generic arguments of the current segment
+                genericArguments = parseGenericArguments();
+            } else if (symbol == '.') { // nested type of a parameterized type
+                internalName.append('$');
+                genericArguments = new LinkedList<ExtractedDataType>();
+            } else {
+                internalName.append(symbol);
+            }
+        }
+        position++; // semicolon
+        return createType(getFullName(internalName.toString()), arrayDimension, status, genericArguments);
+    }
+
+    /**
+     * Parses generic arguments until the closing angle bracket.
+     */
+    private List<ExtractedDataType> parseGenericArguments() {
+        List<ExtractedDataType> arguments = new LinkedList<ExtractedDataType>();
+        while (current() != '>') {
+            char symbol = current();
+            if (symbol == '*') { // unbound wild card
+                position++;
+                arguments.add(createType("?", 0, WildcardStatus.UNBOUND, new LinkedList<ExtractedDataType>()));
+            } else if (symbol == '+') {
+                position++;
+                arguments.add(parseType(WildcardStatus.UPPER_BOUND));
+            } else if (symbol == '-') {
+                position++;
+                arguments.add(parseType(WildcardStatus.LOWER_BOUND));
+            } else {
+                arguments.add(parseType(WildcardStatus.NO_WILDCARD));
+            }
+        }
+        position++; // closing angle bracket
+        return arguments;
+    }
+
+    /**
+     * Parses the type at the current position, which is either a primitive type, a class type or a type variable.
+     */
+    private ExtractedDataType parseType(WildcardStatus status) {
+        int arrayDimension = 0;
+        while (current() == '[') {
+            arrayDimension++;
+            position++;
+        }
+        char symbol = signature.charAt(position++);
+        if (symbol == 'L') {
+            return parseClassType(arrayDimension, status);
+        } else if (symbol == 'T') { // type variable
+            int end = signature.indexOf(';', position);
+            String name = signature.substring(position, end);
+            position = end + 1;
+            return createType(name, arrayDimension, status, new LinkedList<ExtractedDataType>());
+        }
+        return createType(primitiveName(symbol), arrayDimension, status, new LinkedList<ExtractedDataType>());
+    }
+
+    /**
+     * Returns the Java name of a primitive type descriptor.
+     */
+    private String primitiveName(char descriptor) {
+        switch (descriptor) {
+        case 'B':
+            return "byte";
+        case 'C':
+            return "char";
+        case 'D':
+            return "double";
+        case 'F':
+            return "float";
+        case 'I':
+            return "int";
+        case 'J':
+            return "long";
+        case 'S':
+            return "short";
+        case 'Z':
+            return "boolean";
+        default:
+            throw new IllegalArgumentException("Invalid type descriptor " + descriptor + " in signature " + signature);
+        }
+    }
+
+    /**
+     * Skips the type parameters at the start of a class or method signature.
+     */
+    private void skipTypeParameters() {
+        if (current() == '<') {
+            int depth = 0;
+            do { // find matching angle bracket
+                char symbol = signature.charAt(position++);
+                depth += symbol == '<' ? 1 : symbol == '>' ? -1 : 0;
+            } while (depth > 0);
+        }
+    }
+
+    /**
+     * Starts parsing a new signature.
+     */
+    private void start(String newSignature) {
+        signature = newSignature;
+        position = 0;
+    }
+}
@@ -1,6 +1,8 @@
 package eme.generator;
 
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.apache.log4j.LogManager;
@@ -14,6 +16,7 @@ import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EcoreFactory;
 
 import eme.generator.hierarchies.ExternalTypeHierarchy;
+import eme.generator.hierarchies.ExternalTypeLibrary;
 import eme.model.ExtractedClass;
 import eme.model.ExtractedEnum;
 import eme.model.ExtractedEnumConstant;
@@ -21,6 +24,7 @@ import eme.model.ExtractedInterface;
 import eme.model.ExtractedType;
 import eme.model.IntermediateModel;
 import eme.model.datatypes.ExtractedDataType;
+import eme.properties.BinaryProperty;
 
 /**
  * Generator class for Ecore classifiers ({@link EClassifier}s).
@@ -29,6 +33,7 @@ import eme.model.datatypes.ExtractedDataType;
 public class EClassifierGenerator {
     private static final Logger logger = LogManager.getLogger(EClassifierGenerator.class.getName());
     private final Map<EClass, ExtractedType> bareEClasses;
+    private Map<EClass, ExtractedClass> deferredSuperClasses;
     private final Map<String, EClassifier> eClassifierMap;
     private final EcoreFactory ecoreFactory;
     private final ExternalTypeHierarchy externalTypes;
@@ -42,33 +47,64 @@ public class EClassifierGenerator {
      * @param model is the {@link IntermediateModel} which is used to extract a metamodel.
      * @param root is the root {@link EPackage} of the metamodel.
      * @param selector is the {@link SelectionHelper} instance.
+     * @param library is the shared {@link ExternalTypeLibrary}, or null if the external types are part of the metamodel.
+     * @param registry is the {@link EDataTypeRegistry}, which is only used if the shared data types are enabled.
      */
-    public EClassifierGenerator(IntermediateModel model, EPackage root, SelectionHelper selector) {
+    public EClassifierGenerator(IntermediateModel model, EPackage root, SelectionHelper selector, ExternalTypeLibrary library,
+            EDataTypeRegistry registry) {
         this.model = model;
         this.selector = selector;
         ecoreFactory = EcoreFactory.eINSTANCE;
         eClassifierMap = new HashMap<String, EClassifier>();
-        bareEClasses = new HashMap<EClass, ExtractedType>();
+        bareEClasses = new LinkedHashMap<EClass, ExtractedType>(); // keeps the package order
         externalTypes = new ExternalTypeHierarchy(root, selector.getProperties());
-        typeGenerator = new EDataTypeGenerator(model, eClassifierMap, externalTypes);
+        boolean shared = selector.getProperties().get(BinaryProperty.SHARED_DATATYPES);
+        typeGenerator = new EDataTypeGenerator(model, eClassifierMap, externalTypes, shared ? registry : null, library);
         memberGenerator = new EMemberGenerator(typeGenerator, selector, eClassifierMap);
     }
 
     /**
      * Completes the generation of the {@link EClassifier} objects. Adds methods and attributes to {@link EClass}
-     * objects, adds type parameters and super interfaces and sorts the external types.
+     * objects, adds type parameters and super interfaces and sorts the external types. The bare {@link EClass}es act as
+     * placeholders for forward references. In the streaming mode, the content of every type is released after its
+     * {@link EClass} is completed.
      */
     public void completeEClassifiers() {
-        for (EClass eClass : bareEClasses.keySet()) { // for every generated EClass
-            ExtractedType extractedType = bareEClasses.get(eClass);
+        if (deferredSuperClasses != null) { // all types are known now
+            Map<EClass, ExtractedClass> superClasses = deferredSuperClasses;
+            deferredSuperClasses = null; // super classes of new EClasses are added directly again
+            for (Map.Entry<EClass, ExtractedClass> entry : superClasses.entrySet()) {
+                addSuperClass(entry.getValue(), entry.getKey());
+            }
+        }
+        boolean streaming = selector.getProperties().get(BinaryProperty.STREAMING_EXTRACTION);
+        Iterator<Map.Entry<EClass, ExtractedType>> iterator = bareEClasses.entrySet().iterator();
+        while (iterator.hasNext()) { // for every generated EClass
+            Map.Entry<EClass, ExtractedType> entry = iterator.next();
+            EClass eClass = entry.getKey();
+            ExtractedType extractedType = entry.getValue();
             typeGenerator.addTypeParameters(eClass, extractedType); // IMPORTANT: call after EClassifiers are created.
             memberGenerator.addFields(extractedType, eClass); // add attributes
             memberGenerator.addOperations(extractedType, eClass); // add methods
             addSuperInterfaces(extractedType, eClass); // IMPORTANT: needs to be called after type parameters are built
+            if (streaming) {
+                extractedType.release(); // content is not needed anymore
+                iterator.remove();
+            }
         }
         externalTypes.sort();
     }
 
+    /**
+     * Defers the super classes of all {@link EClass}es generated from now on until the {@link EClassifier}s are
+     * completed. This allows generating {@link EClassifier}s while the model is still extracted.
+     */
+    public void deferSuperClasses() {
+        if (deferredSuperClasses == null) {
+            deferredSuperClasses = new LinkedHashMap<EClass, ExtractedClass>();
+        }
+    }
+
     /**
      * Generates a dummy {@link EClassifier}, which is a simple {@link EClass}.
      * @param name is the name of the dummy.
@@ -96,7 +132,11 @@ public class EClassifierGenerator {
             eClassifier = generateEClass(type, true, true);
         } else if (type.getClass() == ExtractedClass.class) { // build class:
             EClass eClass = generateEClass(type, ((ExtractedClass) type).isAbstract(), false);
-            addSuperClass((ExtractedClass) type, eClass); // IMPORTANT: needs to be called after type params are built
+            if (deferredSuperClasses == null) {
+                addSuperClass((ExtractedClass) type, eClass); // IMPORTANT: needs to be called after type params are built
+            } else {
+                deferredSuperClasses.put(eClass, (ExtractedClass) type);
+            }
             eClassifier = eClass;
         } else if (type.getClass() == ExtractedEnum.class) { // build enum:
             eClassifier = generateEEnum((ExtractedEnum) type);
@@ -1,5 +1,6 @@
 package eme.generator;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -18,6 +19,7 @@ import org.eclipse.emf.ecore.EcoreFactory;
 import org.eclipse.emf.ecore.EcorePackage;
 
 import eme.generator.hierarchies.ExternalTypeHierarchy;
+import eme.generator.hierarchies.ExternalTypeLibrary;
 import eme.model.ExtractedMethod;
 import eme.model.ExtractedType;
 import eme.model.IntermediateModel;
@@ -31,10 +33,13 @@ import eme.model.datatypes.WildcardStatus;
  */
 public class EDataTypeGenerator {
     private static final Logger logger = LogManager.getLogger(EDataTypeGenerator.class.getName());
+    private static final Map<String, EDataType> BASIC_TYPES = createBasicTypes();
     private final Map<String, EDataType> dataTypeMap;
     private final Map<String, EClassifier> eClassifierMap;
     private final EcoreFactory ecoreFactory;
+    private final ExternalTypeLibrary library;
     private final IntermediateModel model;
+    private final EDataTypeRegistry registry;
     private final ExternalTypeHierarchy typeHierarchy;
 
     /**
@@ -44,12 +49,27 @@ public class EDataTypeGenerator {
      * @param typeHierarchy is the external type package hierarchy.
      */
     public EDataTypeGenerator(IntermediateModel model, Map<String, EClassifier> eClassifierMap, ExternalTypeHierarchy typeHierarchy) {
+        this(model, eClassifierMap, typeHierarchy, null, null);
+    }
+
+    /**
+     * Constructor that additionally sets a shared registry of external data type templates and a shared data type
+     * library.
+     * @param model is the {@link IntermediateModel}.
+     * @param eClassifierMap is the list of created {@link EClassifier}s. This is needed to get custom data types.
+     * @param typeHierarchy is the external type package hierarchy.
+     * @param registry is the {@link EDataTypeRegistry} for external data types, or null if it is not used.
+     * @param library is the {@link ExternalTypeLibrary} for external data types, or null if it is not used.
+     */
+    public EDataTypeGenerator(IntermediateModel model, Map<String, EClassifier> eClassifierMap, ExternalTypeHierarchy typeHierarchy,
+            EDataTypeRegistry registry, ExternalTypeLibrary library) {
         this.model = model;
         this.eClassifierMap = eClassifierMap; // set eClassifier map.
         this.typeHierarchy = typeHierarchy;
+        this.registry = registry;
+        this.library = library;
         ecoreFactory = EcoreFactory.eINSTANCE; // get ecore factory.
-        dataTypeMap = new HashMap<String, EDataType>(); // create type map.
-        fillMap(); // fill type map.
+        dataTypeMap = new HashMap<String, EDataType>(BASIC_TYPES); // create type map with default entries.
     }
 
     /**
@@ -155,28 +175,30 @@ public class EDataTypeGenerator {
     }
 
     /**
-     * Default data type map entries.
+     * Default data type map entries, which are shared by all generators.
      */
-    private void fillMap() {
-        dataTypeMap.put("boolean", EcorePackage.eINSTANCE.getEBoolean());
-        dataTypeMap.put("byte", EcorePackage.eINSTANCE.getEByte());
-        dataTypeMap.put("char", EcorePackage.eINSTANCE.getEChar());
-        dataTypeMap.put("double", EcorePackage.eINSTANCE.getEDouble());
-        dataTypeMap.put("float", EcorePackage.eINSTANCE.getEFloat());
-        dataTypeMap.put("int", EcorePackage.eINSTANCE.getEInt());
-        dataTypeMap.put("long", EcorePackage.eINSTANCE.getELong());
-        dataTypeMap.put("short", EcorePackage.eINSTANCE.getEShort());
-        dataTypeMap.put("java.lang.Boolean", EcorePackage.eINSTANCE.getEBooleanObject());
-        dataTypeMap.put("java.lang.Byte", EcorePackage.eINSTANCE.getEByteObject());
-        dataTypeMap.put("java.lang.Character", EcorePackage.eINSTANCE.getECharacterObject());
-        dataTypeMap.put("java.lang.Double", EcorePackage.eINSTANCE.getEDoubleObject());
-        dataTypeMap.put("java.lang.Float", EcorePackage.eINSTANCE.getEFloatObject());
-        dataTypeMap.put("java.lang.Integer", EcorePackage.eINSTANCE.getEIntegerObject());
-        dataTypeMap.put("java.lang.Long", EcorePackage.eINSTANCE.getELongObject());
-        dataTypeMap.put("java.lang.Short", EcorePackage.eINSTANCE.getEShortObject());
-        dataTypeMap.put("java.lang.String", EcorePackage.eINSTANCE.getEString());
-        dataTypeMap.put("java.lang.Object", EcorePackage.eINSTANCE.getEJavaObject());
-        dataTypeMap.put("java.lang.Class", EcorePackage.eINSTANCE.getEJavaClass());
+    private static Map<String, EDataType> createBasicTypes() {
+        Map<String, EDataType> basicTypes = new HashMap<String, EDataType>();
+        basicTypes.put("boolean", EcorePackage.eINSTANCE.getEBoolean());
+        basicTypes.put("byte", EcorePackage.eINSTANCE.getEByte());
+        basicTypes.put("char", EcorePackage.eINSTANCE.getEChar());
+        basicTypes.put("double", EcorePackage.eINSTANCE.getEDouble());
+        basicTypes.put("float", EcorePackage.eINSTANCE.getEFloat());
+        basicTypes.put("int", EcorePackage.eINSTANCE.getEInt());
+        basicTypes.put("long", EcorePackage.eINSTANCE.getELong());
+        basicTypes.put("short", EcorePackage.eINSTANCE.getEShort());
+        basicTypes.put("java.lang.Boolean", EcorePackage.eINSTANCE.getEBooleanObject());
+        basicTypes.put("java.lang.Byte", EcorePackage.eINSTANCE.getEByteObject());
+        basicTypes.put("java.lang.Character", EcorePackage.eINSTANCE.getECharacterObject());
+        basicTypes.put("java.lang.Double", EcorePackage.eINSTANCE.getEDoubleObject());
+        basicTypes.put("java.lang.Float", EcorePackage.eINSTANCE.getEFloatObject());
+        basicTypes.put("java.lang.Integer", EcorePackage.eINSTANCE.getEIntegerObject());
+        basicTypes.put("java.lang.Long", EcorePackage.eINSTANCE.getELongObject());
+        basicTypes.put("java.lang.Short", EcorePackage.eINSTANCE.getEShortObject());
+        basicTypes.put("java.lang.String", EcorePackage.eINSTANCE.getEString());
+        basicTypes.put("java.lang.Object", EcorePackage.eINSTANCE.getEJavaObject());
+        basicTypes.put("java.lang.Class", EcorePackage.eINSTANCE.getEJavaClass());
+        return Collections.unmodifiableMap(basicTypes);
     }
 
     /**
@@ -193,7 +215,8 @@ public class EDataTypeGenerator {
     /**
      * Returns an {@link EClassifier} for an {@link ExtractedDataType} that can be used as data type for methods and
      * attributes. The {@link EClassifier} is either (1.) a custom class from the model, or (2.) or an external class that
-     * has to be created as data type, or (3.) an already known data type (Basic type or already created)
+     * has to be created as data type or is taken from the shared library, or (3.) an already known data type (Basic type
+     * or already created)
      */
     private EClassifier generate(ExtractedDataType extractedDataType) {
         EDataType eDataType;
@@ -202,6 +225,8 @@ public class EDataTypeGenerator {
             return eClassifierMap.get(fullName);
         } else if (dataTypeMap.containsKey(fullName)) { // if is basic type or already known EDataType (3.)
             return dataTypeMap.get(fullName); // access EDataType
+        } else if (library != null && !model.contains(extractedDataType.getFullArrayType())) { // shared external type (2.)
+            return generateLibraryType(extractedDataType);
         } else { // if its an external type (2.)
             eDataType = generateExternalType(extractedDataType); // create new EDataType
             typeHierarchy.add(eDataType);
@@ -243,13 +268,24 @@ public class EDataTypeGenerator {
         if (dataTypeMap.containsKey(extractedDataType.getFullType())) { // if already created:
             throw new IllegalArgumentException("Can't create an already created data type."); // throw exception
         }
-        EDataType eDataType = ecoreFactory.createEDataType();
+        String dataTypeName = extractedDataType.getFullArrayType(); // get type name without array brackets.
+        EDataType eDataType = null;
+        if (registry != null && !model.contains(dataTypeName)) { // try to reuse shared template of external type
+            eDataType = registry.copy(extractedDataType.getFullType());
+        }
+        if (eDataType != null) {
+            dataTypeMap.put(extractedDataType.getFullType(), eDataType);
+            return eDataType;
+        }
+        eDataType = ecoreFactory.createEDataType();
         eDataType.setName(extractedDataType.getType());
         eDataType.setInstanceTypeName(extractedDataType.getFullType()); // set full name
-        String dataTypeName = extractedDataType.getFullArrayType(); // get type name without array brackets.
         dataTypeMap.put(extractedDataType.getFullType(), eDataType); // store in map for later use
         if (model.containsExternal(dataTypeName)) { // external type
             addTypeParameters(eDataType, model.getExternalType(dataTypeName)); // add parameters from external type
+            if (registry != null && !model.contains(dataTypeName)) { // only share true external types
+                registry.register(eDataType); // share with later generations
+            }
         } else if (model.contains(dataTypeName)) { // internal type, but not selected
             addTypeParameters(eDataType, model.getType(dataTypeName)); // add parameters from external type
         } else if (!extractedDataType.getGenericArguments().isEmpty()) { // if external type is unknown
@@ -258,6 +294,21 @@ public class EDataTypeGenerator {
         return eDataType;
     }
 
+    /**
+     * Returns the {@link EDataType} of the shared library for an external {@link ExtractedDataType}. If the library does
+     * not contain it yet, it is created and added to the library.
+     */
+    private EDataType generateLibraryType(ExtractedDataType extractedDataType) {
+        EDataType eDataType = library.get(extractedDataType.getFullType());
+        if (eDataType == null) { // not in library yet
+            eDataType = generateExternalType(extractedDataType);
+            library.add(eDataType);
+        } else { // reuse library entry
+            dataTypeMap.put(extractedDataType.getFullType(), eDataType);
+        }
+        return eDataType;
+    }
+
     /**
      * Returns an generic type parameter, which is an {@link EGenericType}, for an {@link ExtractedDataType} that can be
      * used as generic argument for methods and attributes.
@@ -0,0 +1,103 @@
+package eme.generator;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EGenericType;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * Registry of external {@link EDataType} templates, which allows reusing external data types like
+ * <code>java.util.List</code> across the metamodel generations of one extraction instance. The registry is bounded and evicts the least
+ * recently used templates. Only self-contained templates are stored, which means templates whose type parameter bounds
+ * only reference their own type parameters or Ecore data types. That way a copy of a template never references
+ * elements of a different metamodel.
+ * @author Timur Saglam
+ */
+public final class EDataTypeRegistry {
+    private static final int CAPACITY = 1024;
+    private final Map<String, EDataType> templates;
+
+    /**
+     * Basic constructor, creates a registry with the default capacity.
+     */
+    public EDataTypeRegistry() {
+        this(CAPACITY);
+    }
+
+    /**
+     * Creates a registry with a specific capacity.
+     * @param capacity is the maximum amount of templates.
+     */
+    public EDataTypeRegistry(int capacity) {
+        templates = new LinkedHashMap<String, EDataType>(capacity, 0.75f, true) { // access order for LRU
+            private static final long serialVersionUID = 4362195728309511243L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, EDataType> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Removes all templates from the registry.
+     */
+    public synchronized void clear() {
+        templates.clear();
+    }
+
+    /**
+     * Creates a copy of the template for a specific instance type name, if the registry contains one.
+     * @param instanceTypeName is the instance type name of the template, e.g. "java.util.List".
+     * @return the copy of the template or null if there is no template for the name.
+     */
+    public synchronized EDataType copy(String instanceTypeName) {
+        EDataType template = templates.get(instanceTypeName);
+        return template == null ? null : EcoreUtil.copy(template);
+    }
+
+    /**
+     * Stores a copy of an {@link EDataType} as template, if it is self-contained.
+     * @param dataType is the {@link EDataType}.
+     * @return true if it was stored.
+     */
+    public synchronized boolean register(EDataType dataType) {
+        if (isSelfContained(dataType)) {
+            templates.put(dataType.getInstanceTypeName(), EcoreUtil.copy(dataType));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the amount of templates in the registry.
+     * @return the amount of templates.
+     */
+    public synchronized int size() {
+        return templates.size();
+    }
+
+    /**
+     * Checks whether all generic types contained in an {@link EDataType} only reference Ecore data types or type
+     * parameters.
+     */
+    private boolean isSelfContained(EDataType dataType) {
+        Iterator<EObject> iterator = dataType.eAllContents();
+        while (iterator.hasNext()) {
+            EObject element = iterator.next();
+            if (element instanceof EGenericType) {
+                EClassifier classifier = ((EGenericType) element).getEClassifier();
+                if (classifier != null && classifier.getEPackage() != EcorePackage.eINSTANCE) {
+                    return false; // references a classifier of the metamodel
+                }
+            }
+        }
+        return true;
+    }
+}
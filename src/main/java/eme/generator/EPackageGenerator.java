@@ -5,16 +5,22 @@ import static eme.properties.BinaryProperty.ROOT_CONTAINER;
 import static eme.properties.TextProperty.DUMMY_NAME;
 import static eme.properties.TextProperty.ROOT_NAME;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EClassifier;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EcoreFactory;
 
+import eme.generator.hierarchies.ExternalTypeLibrary;
 import eme.generator.hierarchies.InnerTypeHierarchy;
 import eme.model.ExtractedPackage;
 import eme.model.ExtractedType;
 import eme.model.IntermediateModel;
+import eme.properties.BinaryProperty;
 import eme.properties.ExtractionProperties;
+import eme.properties.PropertySnapshot;
 import eme.properties.TextProperty;
 
 /**
@@ -24,18 +30,24 @@ import eme.properties.TextProperty;
 public class EPackageGenerator {
     private EClassifierGenerator classGenerator;
     private final EcoreFactory ecoreFactory;
+    private EPackage eRoot;
+    private ExternalTypeLibrary library;
     private IntermediateModel model;
-    private final ExtractionProperties properties;
-    private final SelectionHelper selector;
+    private Map<ExtractedType, EClassifier> pregeneratedTypes;
+    private PropertySnapshot<TextProperty, BinaryProperty> properties;
+    private final ExtractionProperties propertySource;
+    private final EDataTypeRegistry registry;
+    private SelectionHelper selector;
 
     /**
      * Basic constructor, sets the properties.
      * @param properties is the {@link ExtractionProperties} class for the extraction.
+     * @param registry is the {@link EDataTypeRegistry} for the external data types.
      */
-    public EPackageGenerator(ExtractionProperties properties) {
-        this.properties = properties;
+    public EPackageGenerator(ExtractionProperties properties, EDataTypeRegistry registry) {
+        propertySource = properties;
+        this.registry = registry;
         ecoreFactory = EcoreFactory.eINSTANCE;
-        selector = new SelectionHelper(properties); // build selection helper
     }
 
     /**
@@ -44,13 +56,66 @@ public class EPackageGenerator {
      * @return the root {@link EPackage} of the Ecore metamodel.
      */
     public EPackage generate(IntermediateModel model) {
-        this.model = model; // set model
-        EPackage eRoot = generateEPackage(model.getRoot()); // generate base model:
+        return generate(model, null);
+    }
+
+    /**
+     * Generates an Ecore metamodel from an {@link IntermediateModel}. External data types are taken from or added to a
+     * shared {@link ExternalTypeLibrary} instead of the metamodel itself.
+     * @param model is the {@link IntermediateModel}.
+     * @param library is the shared {@link ExternalTypeLibrary}, or null if it is not used.
+     * @return the root {@link EPackage} of the Ecore metamodel.
+     */
+    public EPackage generate(IntermediateModel model, ExternalTypeLibrary library) {
+        startGeneration(model, library);
+        return finishGeneration();
+    }
+
+    /**
+     * Finishes a generation which was started with {@link #startGeneration(IntermediateModel, ExternalTypeLibrary)}.
+     * Generates the package structure with the remaining types and completes all {@link EClassifier}s. The model has to
+     * be complete at this point.
+     * @return the root {@link EPackage} of the Ecore metamodel.
+     */
+    public EPackage finishGeneration() {
+        generateEPackage(model.getRoot()); // generate base model:
         classGenerator.completeEClassifiers(); // complete EClasses
         selector.generateReport(); // print reports
+        pregeneratedTypes = null;
         return eRoot; // return Ecore metamodel root package
     }
 
+    /**
+     * Generates the bare {@link EClassifier} of a single type of a model which is still extracted. The classifier is
+     * added to its package when the generation is finished. Super classes are added when the generation is finished, as
+     * they might not be extracted yet.
+     * @param type is the {@link ExtractedType} to generate.
+     */
+    public void generateType(ExtractedType type) {
+        classGenerator.deferSuperClasses();
+        EClassifier eClassifier = null;
+        if (selector.allowsGenerating(type)) {
+            eClassifier = classGenerator.generateEClassifier(type);
+        }
+        pregeneratedTypes.put(type, eClassifier); // null if not allowed
+    }
+
+    /**
+     * Starts the generation of an Ecore metamodel from an {@link IntermediateModel}, which might still be extracted.
+     * Single types can be generated with {@link #generateType(ExtractedType)} until the generation is finished with
+     * {@link #finishGeneration()}.
+     * @param model is the {@link IntermediateModel}.
+     * @param library is the shared {@link ExternalTypeLibrary}, or null if it is not used.
+     */
+    public void startGeneration(IntermediateModel model, ExternalTypeLibrary library) {
+        this.model = model; // set model
+        this.library = library;
+        properties = propertySource.snapshot(); // immutable properties for this generation
+        selector = new SelectionHelper(properties); // compile selection rules of this generation
+        pregeneratedTypes = new HashMap<ExtractedType, EClassifier>();
+        eRoot = generateRoot();
+    }
+
     /**
      * Adds subpackages to the {@link EPackage}.
      */
@@ -67,8 +132,8 @@ public class EPackageGenerator {
      */
     private void addTypes(EPackage ePackage, ExtractedPackage extractedPackage) {
         for (ExtractedType type : extractedPackage.getTypes()) { // for all types
-            if (selector.allowsGenerating(type)) { // if is allowed to
-                EClassifier eClassifier = classGenerator.generateEClassifier(type);
+            EClassifier eClassifier = getEClassifier(type);
+            if (eClassifier != null) { // if is allowed to
                 if (type.isInnerType()) { // get relative path of inner type to current package:
                     String relativePath = type.getFullName().replace(extractedPackage.getFullName() + '.', "");
                     new InnerTypeHierarchy(ePackage, properties).add(eClassifier, relativePath); // add inner type
@@ -85,8 +150,8 @@ public class EPackageGenerator {
      */
     private EPackage generateEPackage(ExtractedPackage extractedPackage) {
         EPackage ePackage;
-        if (extractedPackage.isRoot()) { // set root name & prefix:
-            ePackage = generateRoot();
+        if (extractedPackage.isRoot()) { // root is generated first
+            ePackage = eRoot;
         } else { // set name & prefix for non root packages:
             ePackage = ecoreFactory.createEPackage();
             ePackage.setName(extractedPackage.getName());
@@ -107,7 +172,7 @@ public class EPackageGenerator {
         root.setName(name); // set default name
         root.setNsPrefix(name); // set default prefix
         root.setNsURI(getRootURI());
-        classGenerator = new EClassifierGenerator(model, root, selector);
+        classGenerator = new EClassifierGenerator(model, root, selector, library, registry);
         generateRootElement(root);
         return root;
     }
@@ -125,6 +190,19 @@ public class EPackageGenerator {
         root.getEClassifiers().add(rootElement);
     }
 
+    /**
+     * Returns the {@link EClassifier} of a type if it is allowed to be generated, either a pregenerated one or a newly
+     * generated one.
+     */
+    private EClassifier getEClassifier(ExtractedType type) {
+        if (pregeneratedTypes.containsKey(type)) {
+            return pregeneratedTypes.get(type);
+        } else if (selector.allowsGenerating(type)) {
+            return classGenerator.generateEClassifier(type);
+        }
+        return null;
+    }
+
     /**
      * Builds the URI of an root {@link EPackage} from an {@link ExtractedPackage}. The URI contains the project name
      * and the default package name (optionally).
@@ -4,16 +4,21 @@ import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
 import org.eclipse.emf.ecore.EPackage;
 
+import eme.generator.hierarchies.ExternalTypeLibrary;
 import eme.generator.saving.AbstractSavingStrategy;
 import eme.generator.saving.CopyProjectSaving;
 import eme.generator.saving.CustomPathSaving;
+import eme.generator.saving.DirectorySaving;
 import eme.generator.saving.ExistingProjectSaving;
 import eme.generator.saving.NewProjectSaving;
 import eme.generator.saving.OriginalProjectSaving;
 import eme.generator.saving.SavingInformation;
 import eme.model.ExtractedPackage;
+import eme.model.ExtractedType;
 import eme.model.IntermediateModel;
+import eme.properties.BinaryProperty;
 import eme.properties.ExtractionProperties;
+import eme.properties.PropertySnapshot;
 import eme.properties.TextProperty;
 
 /**
@@ -25,18 +30,29 @@ public class EcoreMetamodelGenerator {
     private static final Logger logger = LogManager.getLogger(EcoreMetamodelGenerator.class.getName());
     private static final String OUTPUT_PROJECT = "EME-Generator-Output";
     private final EPackageGenerator ePackageGenerator;
+    private ExternalTypeLibrary library;
     private GeneratedEcoreMetamodel metamodel;
+    private IntermediateModel pendingModel;
     private String projectName;
     private final ExtractionProperties properties;
     private AbstractSavingStrategy savingStrategy;
 
     /**
-     * Basic constructor.
+     * Basic constructor, uses its own {@link EDataTypeRegistry}.
      * @param properties is the ExtractionProperties class for the exraction.
      */
     public EcoreMetamodelGenerator(ExtractionProperties properties) {
+        this(properties, new EDataTypeRegistry());
+    }
+
+    /**
+     * Constructor for a specific {@link EDataTypeRegistry}, which allows its owner to clear it.
+     * @param properties is the ExtractionProperties class for the exraction.
+     * @param registry is the {@link EDataTypeRegistry} for the external data types.
+     */
+    public EcoreMetamodelGenerator(ExtractionProperties properties, EDataTypeRegistry registry) {
         this.properties = properties;
-        ePackageGenerator = new EPackageGenerator(properties); // build generators
+        ePackageGenerator = new EPackageGenerator(properties, registry); // build generators
     }
 
     /**
@@ -58,6 +74,7 @@ public class EcoreMetamodelGenerator {
             logger.error("Unknown saving strategy: " + strategyName);
             savingStrategy = new NewProjectSaving();
         }
+        savingStrategy.setSkipUnchanged(properties.get(BinaryProperty.SKIP_UNCHANGED));
     }
 
     /**
@@ -66,32 +83,104 @@ public class EcoreMetamodelGenerator {
      * @return the root element of the metamodel, an {@link EPackage}.
      */
     public GeneratedEcoreMetamodel generateMetamodel(IntermediateModel model) {
-        changeSavingStrategy(properties.get(TextProperty.SAVING_STRATEGY)); // set saving strategy
-        logger.info("Started generating the metamodel...");
-        ExtractedPackage root = model.getRoot(); // get root package.
-        if (root == null || !root.isSelected()) { // check if valid.
-            throw new IllegalArgumentException("The root of an model can't be null or deselected: " + model.toString());
+        startMetamodel(model);
+        return finishMetamodel(); // checks the model
+    }
+
+    /**
+     * Finishes a metamodel generation which was started with {@link #startMetamodel(IntermediateModel)}. The model has
+     * to be completely extracted at this point.
+     * @return the root element of the metamodel, an {@link EPackage}.
+     */
+    public GeneratedEcoreMetamodel finishMetamodel() {
+        if (pendingModel == null) {
+            throw new IllegalStateException("Cannot finish a metamodel generation before starting one.");
         }
-        projectName = model.getProjectName(); // store project name.
-        EPackage eRoot = ePackageGenerator.generate(model); // generate model model.
+        IntermediateModel model = pendingModel;
+        pendingModel = null;
+        check(model);
+        EPackage eRoot = ePackageGenerator.finishGeneration(); // generate model model.
         metamodel = new GeneratedEcoreMetamodel(eRoot, model);
         return metamodel;
     }
 
+    /**
+     * Generates the bare classifier of a single type while the model of a started metamodel generation is still
+     * extracted.
+     * @param type is the extracted type.
+     */
+    public void generateType(ExtractedType type) {
+        ePackageGenerator.generateType(type);
+    }
+
     /**
      * Saves the metamodel as an Ecore file.
      * @return the saving information.
      */
     public SavingInformation saveMetamodel() {
+        return saveMetamodel(savingStrategy);
+    }
+
+    /**
+     * Saves the metamodel as an Ecore file with a specific {@link AbstractSavingStrategy} instead of the one of the
+     * properties, e.g. with a {@link DirectorySaving} outside of the Eclipse workspace. The strategy is used as
+     * configured by the caller.
+     * @param strategy is the {@link AbstractSavingStrategy} to use.
+     * @return the saving information.
+     */
+    public SavingInformation saveMetamodel(AbstractSavingStrategy strategy) {
         logger.info("Started saving the metamodel");
         if (metamodel == null) {
             throw new IllegalStateException("Cannot save Ecore metamodel before extracting one.");
         }
-        SavingInformation savingInformation = savingStrategy.save(metamodel.getRoot(), projectName);
+        if (library != null) {
+            library.save(); // save extended library first
+        }
+        SavingInformation savingInformation = strategy.save(metamodel.getRoot(), projectName);
         metamodel.setSavingInformation(savingInformation);
         return savingInformation;
     }
 
+    /**
+     * Starts the Ecore metamodel generation for a model which might still be extracted. The extracted types can be
+     * passed to {@link #generateType(ExtractedType)} until the generation is finished with {@link #finishMetamodel()}.
+     * @param model is the {@link IntermediateModel} that is the source for the generator.
+     */
+    public void startMetamodel(IntermediateModel model) {
+        changeSavingStrategy(properties.get(TextProperty.SAVING_STRATEGY)); // set saving strategy
+        logger.info("Started generating the metamodel...");
+        projectName = model.getProjectName(); // store project name.
+        library = loadLibrary(); // shared data type library, if enabled
+        ePackageGenerator.startGeneration(model, library);
+        pendingModel = model;
+    }
+
+    /**
+     * Checks whether the root of a model is valid.
+     */
+    private void check(IntermediateModel model) {
+        ExtractedPackage root = model.getRoot(); // get root package.
+        if (root == null || !root.isSelected()) { // check if valid.
+            throw new IllegalArgumentException("The root of an model can't be null or deselected: " + model.toString());
+        }
+    }
+
+    /**
+     * Loads the shared data type library if it is enabled and has a valid path.
+     */
+    private ExternalTypeLibrary loadLibrary() {
+        PropertySnapshot<TextProperty, BinaryProperty> snapshot = properties.snapshot();
+        if (snapshot.get(BinaryProperty.DATATYPE_LIBRARY)) {
+            String path = snapshot.get(TextProperty.DATATYPE_LIBRARY_PATH);
+            if (path.trim().isEmpty()) {
+                logger.warn("No path for the shared data type library specified, the library is not used.");
+            } else {
+                return ExternalTypeLibrary.load(path, snapshot);
+            }
+        }
+        return null;
+    }
+
     /**
      * Checks whether a strategy class fits to a strategy name.
      */
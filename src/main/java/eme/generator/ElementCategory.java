@@ -0,0 +1,64 @@
+package eme.generator;
+
+import eme.model.MethodType;
+
+/**
+ * Enumeration for the categories of extracted elements, which are used to report ungenerated elements. The
+ * enumerals are ordered alphabetically by their labels.
+ * @author Timur Saglam
+ */
+public enum ElementCategory {
+    ACCESSOR_METHOD("accessor method"),
+    ATTRIBUTE("attribute"),
+    CLASS("class"),
+    CONSTRUCTOR_METHOD("constructor method"),
+    ENUM("enum"),
+    INTERFACE("interface"),
+    MAIN_METHOD("main method"),
+    MUTATOR_METHOD("mutator method"),
+    NORMAL_METHOD("normal method"),
+    PACKAGE("package");
+
+    private final String label;
+
+    /**
+     * Private constructor for enum values with a label.
+     * @param label is the label of the category.
+     */
+    ElementCategory(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Returns the category of methods of a specific {@link MethodType}.
+     * @param type is the {@link MethodType}.
+     * @return the matching {@link ElementCategory}.
+     */
+    public static ElementCategory of(MethodType type) {
+        switch (type) {
+        case ACCESSOR:
+            return ACCESSOR_METHOD;
+        case CONSTRUCTOR:
+            return CONSTRUCTOR_METHOD;
+        case MAIN:
+            return MAIN_METHOD;
+        case MUTATOR:
+            return MUTATOR_METHOD;
+        default:
+            return NORMAL_METHOD;
+        }
+    }
+
+    /**
+     * Returns the plural form of the label, e.g. "classes" for "class".
+     * @return the plural label.
+     */
+    public String getPluralLabel() {
+        return label + (label.endsWith("s") ? "es" : "s");
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
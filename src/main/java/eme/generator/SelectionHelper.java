@@ -5,11 +5,11 @@ import static eme.model.datatypes.AccessLevelModifier.PRIVATE;
 import static eme.model.datatypes.AccessLevelModifier.PROTECTED;
 import static eme.model.datatypes.AccessLevelModifier.PUBLIC;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.BitSet;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
@@ -26,25 +26,37 @@ import eme.model.datatypes.ExtractedDataType;
 import eme.model.datatypes.ExtractedField;
 import eme.model.datatypes.ExtractedParameter;
 import eme.properties.BinaryProperty;
-import eme.properties.ExtractionProperties;
+import eme.properties.PropertySnapshot;
+import eme.properties.TextProperty;
 
 /**
  * This class helps to decide whether a extracted element may be generated or not. It combines rules from a properties
- * class with the selection states of the model elements themselves.
+ * class with the selection states of the model elements themselves. The rules are read from an immutable
+ * {@link PropertySnapshot} and the rules for fields and methods are compiled once on creation into decision tables,
+ * which are indexed by the access level modifier, the static and abstract flags and the {@link MethodType}. A
+ * selection helper should be created once per generation.
  * @author Timur Saglam
  */
 public class SelectionHelper {
     private static final Logger logger = LogManager.getLogger(SelectionHelper.class.getName());
-    private final ExtractionProperties properties;
-    private final Map<String, Integer> reportMap;
+    private static final int MODIFIERS = AccessLevelModifier.values().length;
+    private final BitSet fieldTable;
+    private final BitSet methodTable;
+    private final PropertySnapshot<TextProperty, BinaryProperty> properties;
+    private final LongAdder[] reportCounters;
 
     /**
-     * Simple constructor, sets the {@link ExtractionProperties} object.
-     * @param properties are the extraction properties.
+     * Simple constructor, sets the {@link PropertySnapshot} and compiles the selection rules.
+     * @param properties is the snapshot of the extraction properties.
      */
-    public SelectionHelper(ExtractionProperties properties) {
+    public SelectionHelper(PropertySnapshot<TextProperty, BinaryProperty> properties) {
         this.properties = properties;
-        reportMap = new HashMap<String, Integer>();
+        reportCounters = new LongAdder[ElementCategory.values().length];
+        for (int i = 0; i < reportCounters.length; i++) {
+            reportCounters[i] = new LongAdder();
+        }
+        fieldTable = compileFieldTable();
+        methodTable = compileMethodTable();
     }
 
     /**
@@ -53,13 +65,8 @@ public class SelectionHelper {
      * @return true if it may be generated.
      */
     public boolean allowsGenerating(ExtractedField attribute) {
-        AccessLevelModifier modifier = attribute.getModifier();
-        boolean allowed = !attribute.isStatic() || properties.get(BinaryProperty.STATIC_FIELDS);
-        allowed &= modifier != PUBLIC || properties.get(BinaryProperty.PUBLIC_FIELDS);
-        allowed &= modifier != NO_MODIFIER || properties.get(BinaryProperty.DEFAULT_FIELDS);
-        allowed &= modifier != PROTECTED || properties.get(BinaryProperty.PROTECTED_FIELDS);
-        allowed &= modifier != PRIVATE || properties.get(BinaryProperty.PRIVATE_FIELDS);
-        return report("attribute", allowed);
+        boolean allowed = fieldTable.get(fieldIndex(attribute.getModifier(), attribute.isStatic()));
+        return report(ElementCategory.ATTRIBUTE, allowed);
     }
 
     /**
@@ -68,19 +75,10 @@ public class SelectionHelper {
      * @return true if it may be generated.
      */
     public boolean allowsGenerating(ExtractedMethod method) {
-        AccessLevelModifier modifier = method.getModifier();
         MethodType type = method.getMethodType();
         boolean allowed = method.isSelected();
-        allowed &= type != MethodType.CONSTRUCTOR || properties.get(BinaryProperty.CONSTRUCTORS);
-        allowed &= !method.isAbstract() || properties.get(BinaryProperty.ABSTRACT_METHODS);
-        allowed &= !method.isStatic() || properties.get(BinaryProperty.STATIC_METHODS);
-        allowed &= modifier != NO_MODIFIER || properties.get(BinaryProperty.DEFAULT_METHODS);
-        allowed &= modifier != PUBLIC || properties.get(BinaryProperty.PUBLIC_METHODS);
-        allowed &= modifier != PROTECTED || properties.get(BinaryProperty.PROTECTED_METHODS);
-        allowed &= modifier != PRIVATE || properties.get(BinaryProperty.PRIVATE_METHODS);
-        allowed &= type != MethodType.ACCESSOR || properties.get(BinaryProperty.ACCESS_METHODS);
-        allowed &= type != MethodType.MUTATOR || properties.get(BinaryProperty.ACCESS_METHODS);
-        return report(type.toString(), allowed);
+        allowed &= methodTable.get(methodIndex(type, method.getModifier(), method.isStatic(), method.isAbstract()));
+        return report(ElementCategory.of(type), allowed);
     }
 
     /**
@@ -91,7 +89,7 @@ public class SelectionHelper {
     public boolean allowsGenerating(ExtractedPackage subpackage) {
         boolean allowed = subpackage.isSelected();
         allowed &= !subpackage.isEmpty() || properties.get(BinaryProperty.EMPTY_PACKAGES);
-        return report("package", allowed);
+        return report(ElementCategory.PACKAGE, allowed);
     }
 
     /**
@@ -101,15 +99,19 @@ public class SelectionHelper {
      */
     public boolean allowsGenerating(ExtractedType type) {
         boolean allowed = type.isSelected() && (!type.isInnerType() || properties.get(BinaryProperty.NESTED_TYPES));
+        ElementCategory category = null;
         if (type instanceof ExtractedClass) {
             allowed &= properties.get(BinaryProperty.CLASSES);
             allowed &= !((ExtractedClass) type).isThrowable() || properties.get(BinaryProperty.THROWABLES);
+            category = ElementCategory.CLASS;
         } else if (type instanceof ExtractedInterface) {
             allowed &= properties.get(BinaryProperty.INTERFACES);
+            category = ElementCategory.INTERFACE;
         } else if (type instanceof ExtractedEnum) {
             allowed &= properties.get(BinaryProperty.ENUMS);
+            category = ElementCategory.ENUM;
         }
-        return report(type.getClass().getSimpleName().substring(9).toLowerCase(), allowed); // class, interface, enum
+        return report(category, allowed);
     }
 
     /**
@@ -142,42 +144,122 @@ public class SelectionHelper {
      * intermediate models how many of them were not generated due to selection or properties.
      */
     public void generateReport() {
-        if (reportMap.isEmpty()) {
+        Map<ElementCategory, Long> report = getReport();
+        if (report.isEmpty()) {
             logger.info("There were no ungenerated elements.");
         } else {
             logger.info("There were ungenerated elements because of selection and/or properties:");
-            LinkedList<String> list = new LinkedList<String>(reportMap.keySet());
-            Collections.sort(list); // sort keys
-            String pluralSuffix;
-            for (String element : list) { // for every reported element
-                pluralSuffix = element.endsWith("s") ? "es" : "s"; // add plural suffix
-                logger.info("   " + element + pluralSuffix + ": " + reportMap.get(element)); // print
+            for (ElementCategory category : report.keySet()) { // for every reported category, in alphabetical order
+                logger.info("   " + category.getPluralLabel() + ": " + report.get(category)); // print
+            }
+        }
+    }
+
+    /**
+     * Returns the amounts of ungenerated elements for every {@link ElementCategory} with at least one ungenerated
+     * element.
+     * @return the map of categories to amounts, ordered by category.
+     */
+    public Map<ElementCategory, Long> getReport() {
+        Map<ElementCategory, Long> report = new EnumMap<ElementCategory, Long>(ElementCategory.class);
+        for (ElementCategory category : ElementCategory.values()) {
+            long count = getUngeneratedCount(category);
+            if (count > 0) {
+                report.put(category, count);
             }
         }
+        return report;
+    }
+
+    /**
+     * Returns the amount of elements of a specific {@link ElementCategory} that were not generated due to selection or
+     * properties. This method is safe to be called during a parallel generation.
+     * @param category is the {@link ElementCategory}.
+     * @return the amount of ungenerated elements.
+     */
+    public long getUngeneratedCount(ElementCategory category) {
+        return reportCounters[category.ordinal()].sum();
     }
 
     /**
-     * Accessor method for the {@link ExtractionProperties} of the selection helper.
+     * Accessor method for the {@link PropertySnapshot} of the selection helper.
      * @return the properties.
      */
-    public ExtractionProperties getProperties() {
+    public PropertySnapshot<TextProperty, BinaryProperty> getProperties() {
         return properties;
     }
 
     /**
-     * Increases the number of ungenerated features for a specific type of features.
+     * Compiles the decision table for fields, which is indexed by the modifier and the static flag.
+     */
+    private BitSet compileFieldTable() {
+        BitSet table = new BitSet(MODIFIERS * 2);
+        for (AccessLevelModifier modifier : AccessLevelModifier.values()) {
+            for (boolean isStatic : new boolean[] { false, true }) {
+                boolean allowed = !isStatic || properties.get(BinaryProperty.STATIC_FIELDS);
+                allowed &= modifier != PUBLIC || properties.get(BinaryProperty.PUBLIC_FIELDS);
+                allowed &= modifier != NO_MODIFIER || properties.get(BinaryProperty.DEFAULT_FIELDS);
+                allowed &= modifier != PROTECTED || properties.get(BinaryProperty.PROTECTED_FIELDS);
+                allowed &= modifier != PRIVATE || properties.get(BinaryProperty.PRIVATE_FIELDS);
+                table.set(fieldIndex(modifier, isStatic), allowed);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Compiles the decision table for methods, which is indexed by the method type, the modifier, the static flag and
+     * the abstract flag.
+     */
+    private BitSet compileMethodTable() {
+        BitSet table = new BitSet(MethodType.values().length * MODIFIERS * 4);
+        for (MethodType type : MethodType.values()) {
+            for (AccessLevelModifier modifier : AccessLevelModifier.values()) {
+                for (boolean isStatic : new boolean[] { false, true }) {
+                    for (boolean isAbstract : new boolean[] { false, true }) {
+                        boolean allowed = type != MethodType.CONSTRUCTOR || properties.get(BinaryProperty.CONSTRUCTORS);
+                        allowed &= !isAbstract || properties.get(BinaryProperty.ABSTRACT_METHODS);
+                        allowed &= !isStatic || properties.get(BinaryProperty.STATIC_METHODS);
+                        allowed &= modifier != NO_MODIFIER || properties.get(BinaryProperty.DEFAULT_METHODS);
+                        allowed &= modifier != PUBLIC || properties.get(BinaryProperty.PUBLIC_METHODS);
+                        allowed &= modifier != PROTECTED || properties.get(BinaryProperty.PROTECTED_METHODS);
+                        allowed &= modifier != PRIVATE || properties.get(BinaryProperty.PRIVATE_METHODS);
+                        allowed &= type != MethodType.ACCESSOR || properties.get(BinaryProperty.ACCESS_METHODS);
+                        allowed &= type != MethodType.MUTATOR || properties.get(BinaryProperty.ACCESS_METHODS);
+                        table.set(methodIndex(type, modifier, isStatic, isAbstract), allowed);
+                    }
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Calculates the index of a field in the field decision table.
+     */
+    private int fieldIndex(AccessLevelModifier modifier, boolean isStatic) {
+        return modifier.ordinal() * 2 + (isStatic ? 1 : 0);
+    }
+
+    /**
+     * Calculates the index of a method in the method decision table.
+     */
+    private int methodIndex(MethodType type, AccessLevelModifier modifier, boolean isStatic, boolean isAbstract) {
+        int index = type.ordinal() * MODIFIERS + modifier.ordinal();
+        return (index * 2 + (isStatic ? 1 : 0)) * 2 + (isAbstract ? 1 : 0);
+    }
+
+    /**
+     * Increases the number of ungenerated elements for a specific category of elements. The counters are lock-free and
+     * can be increased concurrently.
+     * @param category is the specific category of elements.
      * @param allowed specifies whether the generation should be allowed or not.
-     * @param feature is the specific type of features.
      * @return the value of the parameter allowed
      */
-    private boolean report(String feature, boolean allowed) {
-        if (!allowed) { // if generating was not allowed:
-            if (reportMap.containsKey(feature)) { // if has already reported on feature
-                reportMap.put(feature, reportMap.get(feature) + 1); // increase
-            } else { // if never reported on feature
-                reportMap.put(feature, 1); // create new entry for feature
-            }
+    private boolean report(ElementCategory category, boolean allowed) {
+        if (!allowed && category != null) { // if generating was not allowed:
+            reportCounters[category.ordinal()].increment();
         }
         return allowed; // return whether it was allowed or not.
     }
-}
\ No newline at end of file
+}
@@ -1,15 +1,17 @@
 package eme.generator;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
-import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.ECollections;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EClassifier;
 import org.eclipse.emf.ecore.EOperation;
 import org.eclipse.emf.ecore.ETypeParameter;
-import org.eclipse.emf.ecore.impl.EOperationImpl;
 
 import eme.model.datatypes.ExtractedDataType;
 
@@ -20,20 +22,22 @@ import eme.model.datatypes.ExtractedDataType;
  * by a common super class or defined in a common interface. This class bypasses this problem by defining one class that
  * can return {@link ETypeParameter}s from both an {@link EOperation} and an {@link EClassifier}. Additionally, when
  * created from an {@link EOperation}, it can be used to locate {@link ETypeParameter} from the {@link EOperation} and
- * the containing {@link EClass} of the {@link EOperation} at the same time.
+ * the containing {@link EClass} of the {@link EOperation} at the same time. The {@link ETypeParameter}s are mapped by
+ * their names when the source is created, which means the source should be created after the {@link ETypeParameter}s
+ * were added to the {@link EClassifier} or {@link EOperation}.
  * @author Timur Saglam
  */
 public class TypeParameterSource {
     private final EClassifier classifier;
-    private EOperation operation;
+    private final List<ETypeParameter> operationParameters;
+    private final Map<String, ETypeParameter> parameterMap;
 
     /**
      * Creates new type parameter source from an {@link EClassifier}.
      * @param classifier is the source {@link EClassifier}.
      */
     public TypeParameterSource(EClassifier classifier) {
-        this(classifier, null); // no operation
-        operation = new NullOperation();
+        this(classifier, ECollections.<ETypeParameter>emptyEList()); // no operation
     }
 
     /**
@@ -41,17 +45,25 @@ public class TypeParameterSource {
      * @param operation is the source {@link EOperation}. It has to be contained in an {@link EClassifier}.
      */
     public TypeParameterSource(EOperation operation) {
-        this(operation.getEContainingClass(), operation); // implicit EClassifier
+        this(operation.getEContainingClass(), operation.getETypeParameters()); // implicit EClassifier
     }
 
     /**
-     * Creates new type parameter source.
+     * Creates new type parameter source. Sources without any {@link ETypeParameter}s share an empty map.
      * @param classifier is an {@link EClassifier} as source.
-     * @param operation is an {@link EOperation} as source.
+     * @param operationParameters are the {@link ETypeParameter}s of an {@link EOperation} as source.
      */
-    private TypeParameterSource(EClassifier classifier, EOperation operation) {
+    private TypeParameterSource(EClassifier classifier, EList<ETypeParameter> operationParameters) {
         this.classifier = classifier;
-        this.operation = operation;
+        this.operationParameters = operationParameters;
+        EList<ETypeParameter> classParameters = classifier.getETypeParameters();
+        if (operationParameters.isEmpty() && classParameters.isEmpty()) {
+            parameterMap = Collections.emptyMap(); // nothing to resolve
+        } else {
+            parameterMap = new HashMap<String, ETypeParameter>();
+            addAll(operationParameters); // operation parameters hide class parameters
+            addAll(classParameters);
+        }
     }
 
     /**
@@ -70,37 +82,22 @@ public class TypeParameterSource {
      * @return the {@link ETypeParameter} or null if there is no matching {@link ETypeParameter}.
      */
     public ETypeParameter getTypeParameter(ExtractedDataType dataType) {
-        String name = dataType.getFullType();
-        ETypeParameter parameter = find(name, operation.getETypeParameters());
-        if (parameter == null) {
-            return find(name, classifier.getETypeParameters());
-        }
-        return parameter;
+        return parameterMap.get(dataType.getFullType());
     }
 
     @Override
     public String toString() {
         List<ETypeParameter> classParameters = new LinkedList<>(classifier.getETypeParameters());
-        List<ETypeParameter> operationParameters = new LinkedList<>(operation.getETypeParameters());
-        return getClass().getSimpleName() + "(fromClass" + classParameters + " fromMethod" + operationParameters + ")";
+        List<ETypeParameter> methodParameters = new LinkedList<>(operationParameters);
+        return getClass().getSimpleName() + "(fromClass" + classParameters + " fromMethod" + methodParameters + ")";
     }
 
     /**
-     * Finds and returns an {@link ETypeParameter} in an {@link List} of {@link ETypeParameter}s.
+     * Adds all {@link ETypeParameter}s of a {@link List} to the parameter map, if their name is not mapped already.
      */
-    private ETypeParameter find(String name, EList<ETypeParameter> list) {
+    private void addAll(EList<ETypeParameter> list) {
         for (ETypeParameter parameter : list) {
-            if (parameter.getName().equals(name)) {
-                return parameter;
-            }
-        }
-        return null;
-    }
-
-    private class NullOperation extends EOperationImpl {
-        @Override
-        public EList<ETypeParameter> getETypeParameters() {
-            return new BasicEList<ETypeParameter>();
+            parameterMap.putIfAbsent(parameter.getName(), parameter);
         }
     }
 }
\ No newline at end of file
@@ -12,7 +12,9 @@ import org.eclipse.emf.ecore.ENamedElement;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EcoreFactory;
 
-import eme.properties.ExtractionProperties;
+import eme.properties.BinaryProperty;
+import eme.properties.PropertySnapshot;
+import eme.properties.TextProperty;
 
 /**
  * This class allows to build a package structure, a {@link EPackage} hierarchy for {@link EClassifier}s.
@@ -20,14 +22,14 @@ import eme.properties.ExtractionProperties;
  */
 public class EPackageHierarchy {
     protected final EPackage basePackage;
-    protected final ExtractionProperties properties;
+    protected final PropertySnapshot<TextProperty, BinaryProperty> properties;
 
     /**
      * Basic constructor.
      * @param basePackage is the base {@link EPackage} of hierarchy.
-     * @param properties is the instance of the {@link ExtractionProperties} class.
+     * @param properties is the {@link PropertySnapshot} of the extraction properties.
      */
-    protected EPackageHierarchy(EPackage basePackage, ExtractionProperties properties) {
+    protected EPackageHierarchy(EPackage basePackage, PropertySnapshot<TextProperty, BinaryProperty> properties) {
         this.basePackage = basePackage;
         this.properties = properties;
     }
@@ -3,7 +3,8 @@ package eme.generator.hierarchies;
 import org.eclipse.emf.ecore.EDataType;
 import org.eclipse.emf.ecore.EPackage;
 
-import eme.properties.ExtractionProperties;
+import eme.properties.BinaryProperty;
+import eme.properties.PropertySnapshot;
 import eme.properties.TextProperty;
 
 /**
@@ -15,9 +16,9 @@ public class ExternalTypeHierarchy extends EPackageHierarchy {
     /**
      * Simple constructor, builds the base for the hierarchy.
      * @param root is the root {@link EPackage} of the metamodel.
-     * @param properties is the instance of the {@link ExtractionProperties} class.
+     * @param properties is the {@link PropertySnapshot} of the extraction properties.
      */
-    public ExternalTypeHierarchy(EPackage root, ExtractionProperties properties) {
+    public ExternalTypeHierarchy(EPackage root, PropertySnapshot<TextProperty, BinaryProperty> properties) {
         super(generatePackage(properties.get(TextProperty.DATATYPE_PACKAGE), root), properties);
     }
 
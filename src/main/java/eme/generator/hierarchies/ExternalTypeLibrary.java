@@ -0,0 +1,138 @@
+package eme.generator.hierarchies;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+
+import eme.properties.BinaryProperty;
+import eme.properties.PropertySnapshot;
+import eme.properties.TextProperty;
+
+/**
+ * This class manages a shared library of external data types, which is stored in its own Ecore file. Multiple
+ * metamodels can reference the same library instead of containing their own copies of the external data types. The
+ * library is extended incrementally and deduplicated by the instance type names of its {@link EDataType}s.
+ * @author Timur Saglam
+ */
+public class ExternalTypeLibrary extends EPackageHierarchy {
+    private static final Logger logger = LogManager.getLogger(ExternalTypeLibrary.class.getName());
+    private static final String URI_PREFIX = "EcoreMetamodelExtraction/";
+    private final Map<String, EDataType> dataTypes;
+    private boolean modified;
+    private final Resource resource;
+
+    /**
+     * Basic constructor, sets the resource and the root package of the library.
+     * @param resource is the {@link Resource} of the library file.
+     * @param root is the root {@link EPackage} of the library.
+     * @param properties is the {@link PropertySnapshot} of the extraction properties.
+     */
+    private ExternalTypeLibrary(Resource resource, EPackage root, PropertySnapshot<TextProperty, BinaryProperty> properties) {
+        super(root, properties);
+        this.resource = resource;
+        dataTypes = new HashMap<String, EDataType>();
+        Iterator<EObject> iterator = root.eAllContents();
+        while (iterator.hasNext()) { // index existing data types
+            EObject element = iterator.next();
+            if (element instanceof EDataType) {
+                EDataType dataType = (EDataType) element;
+                dataTypes.put(dataType.getInstanceTypeName(), dataType);
+            }
+        }
+    }
+
+    /**
+     * Loads the library from an Ecore file. Creates a new empty library if the file does not exist yet.
+     * @param filePath is the path of the library Ecore file.
+     * @param properties is the {@link PropertySnapshot} of the extraction properties.
+     * @return the {@link ExternalTypeLibrary}.
+     */
+    public static ExternalTypeLibrary load(String filePath, PropertySnapshot<TextProperty, BinaryProperty> properties) {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put(EcorePackage.eNAME, new XMIResourceFactoryImpl());
+        Resource resource = resourceSet.createResource(URI.createFileURI(filePath));
+        if (new File(filePath).exists()) {
+            try {
+                resource.load(Collections.EMPTY_MAP);
+            } catch (IOException exception) {
+                logger.error("Error while loading the data type library, creating a new one.", exception);
+                resource.getContents().clear();
+            }
+        }
+        if (resource.getContents().isEmpty() || !(resource.getContents().get(0) instanceof EPackage)) {
+            resource.getContents().clear();
+            resource.getContents().add(createRoot(properties.get(TextProperty.DATATYPE_PACKAGE)));
+        }
+        return new ExternalTypeLibrary(resource, (EPackage) resource.getContents().get(0), properties);
+    }
+
+    /**
+     * Adds an {@link EDataType} to the library. Generates the missing packages for the hierarchy.
+     * @param dataType is the new {@link EDataType}.
+     */
+    public void add(EDataType dataType) {
+        add(dataType, packagePath(dataType.getInstanceTypeName()));
+        dataTypes.put(dataType.getInstanceTypeName(), dataType);
+        modified = true;
+    }
+
+    /**
+     * Returns the {@link EDataType} of the library with a specific instance type name.
+     * @param instanceTypeName is the instance type name, e.g. "java.util.List".
+     * @return the {@link EDataType} or null if the library does not contain it.
+     */
+    public EDataType get(String instanceTypeName) {
+        return dataTypes.get(instanceTypeName);
+    }
+
+    /**
+     * Checks whether the library was extended since it was loaded.
+     * @return true if it was.
+     */
+    public boolean isModified() {
+        return modified;
+    }
+
+    /**
+     * Saves the library to its Ecore file, if it was extended since it was loaded.
+     */
+    public void save() {
+        if (modified) {
+            sort();
+            try {
+                resource.save(Collections.EMPTY_MAP);
+                modified = false;
+                logger.info("The data type library was saved under: " + resource.getURI().toFileString());
+            } catch (IOException exception) {
+                logger.error("Error while saving the data type library.", exception);
+            }
+        }
+    }
+
+    /**
+     * Creates the empty root {@link EPackage} of a new library.
+     */
+    private static EPackage createRoot(String name) {
+        EPackage root = EcoreFactory.eINSTANCE.createEPackage();
+        root.setName(name);
+        root.setNsPrefix(name);
+        root.setNsURI(URI_PREFIX + name);
+        return root;
+    }
+}
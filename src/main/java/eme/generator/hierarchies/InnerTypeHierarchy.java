@@ -3,7 +3,8 @@ package eme.generator.hierarchies;
 import org.eclipse.emf.ecore.EClassifier;
 import org.eclipse.emf.ecore.EPackage;
 
-import eme.properties.ExtractionProperties;
+import eme.properties.BinaryProperty;
+import eme.properties.PropertySnapshot;
 import eme.properties.TextProperty;
 
 /**
@@ -15,9 +16,9 @@ public class InnerTypeHierarchy extends EPackageHierarchy {
     /**
      * Basic constructor.
      * @param basePackage is the base {@link EPackage} of hierarchy. This is the package of the (most) outer type.
-     * @param properties is the instance of the {@link ExtractionProperties} class.
+     * @param properties is the {@link PropertySnapshot} of the extraction properties.
      */
-    public InnerTypeHierarchy(EPackage basePackage, ExtractionProperties properties) {
+    public InnerTypeHierarchy(EPackage basePackage, PropertySnapshot<TextProperty, BinaryProperty> properties) {
         super(basePackage, properties);
     }
 
@@ -1,7 +1,13 @@
 package eme.generator.saving;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Collections;
 import java.util.Map;
 
@@ -29,7 +35,10 @@ import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
 public abstract class AbstractSavingStrategy {
     private static final Logger logger = LogManager.getLogger(AbstractSavingStrategy.class.getName());
     protected static final char SLASH = File.separatorChar;
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String HASH_SUFFIX = ".ecore.sha256";
     private final boolean saveInProject;
+    private boolean skipUnchanged;
 
     /**
      * Basic constructor. Takes the name of the project.
@@ -48,6 +57,16 @@ public abstract class AbstractSavingStrategy {
         return getClass().getSimpleName().replace("Saving", "");
     }
 
+    /**
+     * Enables or disables the skipping of unchanged metamodels. If enabled, the metamodel is serialized to memory and
+     * its hash is compared to the hash stored alongside the existing Ecore file. If they match, neither the file is
+     * written nor the folder is refreshed.
+     * @param skipUnchanged determines whether unchanged metamodels are not written again.
+     */
+    public void setSkipUnchanged(boolean skipUnchanged) {
+        this.skipUnchanged = skipUnchanged;
+    }
+
     /**
      * Saves an {@link EPackage} as an Ecore file. The method calls the methods filePath() and fileName() to get the
      * information it needs to save the metamodel. If the default saving behavior is not wanted, this method has to be
@@ -72,16 +91,39 @@ public abstract class AbstractSavingStrategy {
             logger.error("Error while saving the metamodel.", exception);
         }
         resource.getContents().add(ePackage); // add the EPackage as root.
+        boolean unchanged = false;
+        boolean saved = false;
         try { // save the content:
-            resource.save(Collections.EMPTY_MAP);
+            if (skipUnchanged) {
+                unchanged = saveIfChanged(resource, filePath + fileName);
+            } else {
+                resource.save(Collections.EMPTY_MAP);
+            }
+            saved = true;
         } catch (IOException exception) {
             logger.error("Error while saving the metamodel.", exception);
         }
-        if (saveInProject) {
-            refreshFolder(getFilePath());
+        if (unchanged) {
+            logger.info("The extracted metamodel is unchanged, skipped saving under: " + getFilePath());
+        } else if (saved) {
+            if (saveInProject) {
+                refreshFolder(getFilePath());
+            }
+            logger.info("The extracted metamodel was saved under: " + getFilePath());
+        }
+        return new SavingInformation(filePath, fileName, projectName, unchanged);
+    }
+
+    /**
+     * Calculates the hexadecimal hash string of a byte array.
+     */
+    private String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance(HASH_ALGORITHM).digest(content);
+            return String.format("%0" + (digest.length * 2) + "x", new BigInteger(1, digest));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("Hash algorithm is not available: " + HASH_ALGORITHM, exception);
         }
-        logger.info("The extracted metamodel was saved under: " + getFilePath());
-        return new SavingInformation(filePath, fileName);
     }
 
     /**
@@ -98,6 +140,32 @@ public abstract class AbstractSavingStrategy {
         }
     }
 
+    /**
+     * Serializes a {@link Resource} to memory and compares the hash of the result with the hash stored alongside the
+     * existing Ecore file. Writes the Ecore file and its hash only if they differ. The old hash is deleted before and the
+     * new hash is written after the Ecore file, so a failed write never leaves a matching hash.
+     * @return true if the metamodel was unchanged and therefore not written.
+     */
+    private boolean saveIfChanged(Resource resource, String pathWithoutExtension) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        resource.save(stream, Collections.EMPTY_MAP); // serialize to memory
+        byte[] content = stream.toByteArray();
+        String hash = hash(content);
+        File ecoreFile = new File(pathWithoutExtension + ".ecore");
+        File hashFile = new File(pathWithoutExtension + HASH_SUFFIX);
+        if (ecoreFile.exists() && hashFile.exists()) { // compare with stored hash:
+            String storedHash = new String(Files.readAllBytes(hashFile.toPath()), StandardCharsets.US_ASCII).trim();
+            if (hash.equals(storedHash)) {
+                return true; // identical, nothing to write
+            }
+        }
+        Files.deleteIfExists(hashFile.toPath()); // stale until the new file is written
+        Files.createDirectories(ecoreFile.toPath().getParent());
+        Files.write(ecoreFile.toPath(), content);
+        Files.write(hashFile.toPath(), hash.getBytes(StandardCharsets.US_ASCII)); // hash last
+        return false;
+    }
+
     /**
      * Can be used to prepare the saving itself.
      * @param projectName is the name of the project where the metamodel was extracted.
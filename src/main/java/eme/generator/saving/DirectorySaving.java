@@ -0,0 +1,49 @@
+package eme.generator.saving;
+
+import java.io.File;
+
+/**
+ * Saving strategy that saves the ecore file in a specific directory of the file system. It does not depend on the
+ * Eclipse workspace and can therefore be used outside of the IDE.
+ * @author Timur Saglam
+ */
+public class DirectorySaving extends AbstractSavingStrategy {
+    private final File directory;
+    private String fileName;
+
+    /**
+     * Basic constructor.
+     * @param directory is the directory where the ecore file is saved. It is created if it does not exist.
+     */
+    public DirectorySaving(File directory) {
+        super(false); // no workspace folder to refresh
+        this.directory = directory;
+    }
+
+    /*
+     * @see eme.generator.saving.AbstractSavingStrategy#beforeSaving()
+     */
+    @Override
+    protected void beforeSaving(String projectName) {
+        fileName = projectName;
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IllegalStateException("Could not create the output directory " + directory);
+        }
+    }
+
+    /*
+     * @see eme.generator.saving.AbstractSavingStrategy#fileName()
+     */
+    @Override
+    protected String getFileName() {
+        return fileName;
+    }
+
+    /*
+     * @see eme.generator.saving.AbstractSavingStrategy#filePath()
+     */
+    @Override
+    protected String getFilePath() {
+        return directory.getAbsolutePath() + SLASH;
+    }
+}
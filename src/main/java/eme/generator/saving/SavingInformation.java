@@ -11,6 +11,7 @@ public class SavingInformation {
     private final String fileName;
     private final String filePath;
     private final String projectName;
+    private final boolean unchanged;
 
     /**
      * Basic constructor that sets the information.
@@ -18,10 +19,21 @@ public class SavingInformation {
      * @param fileName is the name of file where the Ecore metamodel was saved in.
      */
     public SavingInformation(String filePath, String fileName) {
+        this(filePath, fileName, parseProjectName(filePath), false);
+    }
+
+    /**
+     * Constructor that sets the information and whether the saving was skipped.
+     * @param filePath is the path where the Ecore file was saved.
+     * @param fileName is the name of file where the Ecore metamodel was saved in.
+     * @param projectName is the name of the project the metamodel was extracted from.
+     * @param unchanged determines whether the existing Ecore file was identical and therefore not written again.
+     */
+    public SavingInformation(String filePath, String fileName, String projectName, boolean unchanged) {
         this.filePath = filePath;
         this.fileName = fileName;
-        String[] segments = filePath.split(Pattern.quote(File.separator));
-        projectName = segments[segments.length - 2];
+        this.projectName = projectName;
+        this.unchanged = unchanged;
     }
 
     /**
@@ -42,9 +54,25 @@ public class SavingInformation {
 
     /**
      * Accessor for the project name.
-     * @return the the name of the saved project.
+     * @return the the name of the project.
      */
     public String getProjectName() {
         return projectName;
     }
+
+    /**
+     * Checks whether the Ecore file was unchanged. In that case the existing file was kept and not written again.
+     * @return true if it was unchanged.
+     */
+    public boolean isUnchanged() {
+        return unchanged;
+    }
+
+    /**
+     * Parses the project name from a file path inside of a project folder, which is the second to last segment.
+     */
+    private static String parseProjectName(String filePath) {
+        String[] segments = filePath.split(Pattern.quote(File.separator));
+        return segments.length < 2 ? "" : segments[segments.length - 2];
+    }
 }
\ No newline at end of file
@@ -17,10 +17,12 @@ import org.eclipse.core.runtime.CoreException;
 public abstract class MainHandler extends AbstractHandler {
     private static final Logger logger = LogManager.getLogger(MainHandler.class.getName());
 
-    static { // Set logging level.
-        BasicConfigurator.configure();
+    static { // Set default logging configuration, if there is no configuration yet.
         Logger rootLogger = Logger.getRootLogger();
-        rootLogger.setLevel(Level.INFO);
+        if (!rootLogger.getAllAppenders().hasMoreElements()) {
+            BasicConfigurator.configure();
+            rootLogger.setLevel(Level.INFO);
+        }
     }
 
     protected String title;
@@ -11,6 +11,7 @@ import org.eclipse.ui.IWorkbenchWindow;
 import org.eclipse.ui.handlers.HandlerUtil;
 
 import eme.EcoreMetamodelExtraction;
+import eme.ExtractionService;
 import eme.properties.ExtractionProperties;
 
 /**
@@ -82,13 +83,12 @@ public class ProjectHandler extends MainHandler {
 
 	/**
 	 * Starts the extraction by calling an extraction method from the class
-	 * {@link EcoreMetamodelExtraction}.
+	 * {@link ExtractionService}, which reuses its {@link EcoreMetamodelExtraction}
+	 * between invocations.
 	 * 
 	 * @param project is the parameter for the methods that is called.
 	 */
 	protected void startExtraction(IProject project) {
-		EcoreMetamodelExtraction extraction = new EcoreMetamodelExtraction(); // EME instance
-		configure(extraction.getProperties()); // configure extraction
-		extraction.extract(project); // start
+		ExtractionService.getInstance().extract(project, this::configure); // configure and start
 	}
 }
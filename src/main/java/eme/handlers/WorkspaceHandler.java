@@ -10,7 +10,7 @@ import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.ui.IWorkbenchWindow;
 import org.eclipse.ui.handlers.HandlerUtil;
 
-import eme.EcoreMetamodelExtraction;
+import eme.ExtractionService;
 
 /**
  * Handler for calling an extraction method.
@@ -41,7 +41,7 @@ public class WorkspaceHandler extends MainHandler {
         window = HandlerUtil.getActiveWorkbenchWindowChecked(event);
         IProject project = chooseProject();
         if (project != null) {
-            new EcoreMetamodelExtraction().extract(project);
+            ExtractionService.getInstance().extract(project);
         }
         return null;
     }
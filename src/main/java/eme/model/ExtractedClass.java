@@ -8,7 +8,8 @@ import eme.model.datatypes.ExtractedDataType;
  */
 public class ExtractedClass extends ExtractedType {
     private final boolean abstractClass;
-    private final boolean throwable;
+    private boolean throwable;
+    private boolean throwableSet;
 
     /**
      * Basic constructor.
@@ -39,13 +40,25 @@ public class ExtractedClass extends ExtractedType {
     }
 
     /**
-     * Checks whether the class is throwable.
+     * Checks whether the class is throwable. Extracts the lazy content of the class, unless it was explicitly set before.
      * @return true if class is throwable.
      */
     public boolean isThrowable() {
+        if (!throwableSet) {
+            load();
+        }
         return throwable;
     }
 
+    /**
+     * Sets whether the class inherits from {@link java.lang.Throwable}.
+     * @param throwable determines whether the class is throwable.
+     */
+    public void setThrowable(boolean throwable) {
+        this.throwable = throwable;
+        throwableSet = true;
+    }
+
     /**
      * Sets a class as super class.
      * @param superClass is the new super class.
@@ -7,6 +7,7 @@ package eme.model;
 public abstract class ExtractedElement implements Comparable<ExtractedElement> {
     protected String name;
     protected String parent;
+    private ExtractedPackage parentPackage;
     protected boolean selected; // selection for saving.
 
     /**
@@ -62,6 +63,14 @@ public abstract class ExtractedElement implements Comparable<ExtractedElement> {
         return name;
     }
 
+    /**
+     * accessor for the parent {@link ExtractedPackage} of the element, which is set when the element is added to it.
+     * @return the parent package, or null if the element is the root package or not added to a package yet.
+     */
+    public ExtractedPackage getParent() {
+        return parentPackage;
+    }
+
     /**
      * accessor for the name of the elements parent.
      * @return the parent name.
@@ -89,6 +98,16 @@ public abstract class ExtractedElement implements Comparable<ExtractedElement> {
         return selected;
     }
 
+    /**
+     * Selects all ancestors of the element, without changing the selection of their other children. This guarantees that
+     * a selected element is not excluded through a deselected package.
+     */
+    public void selectAncestors() {
+        for (ExtractedPackage ancestor = parentPackage; ancestor != null; ancestor = ancestor.getParent()) {
+            ancestor.selected = true;
+        }
+    }
+
     /**
      * Sets whether is element is selected or not. All child elements like types or
      * subpackages will be (de)selected.
@@ -103,6 +122,14 @@ public abstract class ExtractedElement implements Comparable<ExtractedElement> {
         return getClass().getSimpleName() + "(" + getFullName() + ")";
     }
 
+    /**
+     * Sets the parent {@link ExtractedPackage} of the element.
+     * @param parentPackage is the package which contains the element.
+     */
+    void setParent(ExtractedPackage parentPackage) {
+        this.parentPackage = parentPackage;
+    }
+
     /**
      * Calculates the index of the separator of a full qualified name.
      * @param fullName is the full qualified name.
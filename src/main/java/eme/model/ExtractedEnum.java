@@ -32,6 +32,13 @@ public class ExtractedEnum extends ExtractedType {
      * @return the enumerals in a List.
      */
     public List<ExtractedEnumConstant> getConstants() {
+        load();
         return constants;
     }
-}
\ No newline at end of file
+
+    @Override
+    protected void clearContent() {
+        super.clearContent();
+        constants.clear(); // constants are content
+    }
+}
@@ -160,10 +160,11 @@ public class ExtractedMethod extends ExtractedElement {
 
     @Override
     public String toString() {
-        String result = modifier + " " + parent.toString() + "." + name + parameters.toString();
+        StringBuilder builder = new StringBuilder();
+        builder.append(modifier).append(' ').append(parent).append('.').append(name).append(parameters);
         if (returnType != null) {
-            result += " : " + returnType.toString();
+            builder.append(" : ").append(returnType);
         }
-        return result;
+        return builder.toString();
     }
 }
\ No newline at end of file
@@ -1,7 +1,8 @@
 package eme.model;
 
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -13,6 +14,8 @@ public class ExtractedPackage extends ExtractedElement {
     private final List<ExtractedEnum> enumerations;
     private final List<ExtractedInterface> interfaces;
     private final List<ExtractedPackage> subpackages;
+    private int typeCount; // types of the package and all its subpackages
+    private final List<ExtractedType> types;
     protected boolean root;
 
     /**
@@ -21,10 +24,11 @@ public class ExtractedPackage extends ExtractedElement {
      */
     public ExtractedPackage(String fullName) {
         super(fullName);
-        subpackages = new LinkedList<ExtractedPackage>();
-        classes = new LinkedList<ExtractedClass>();
-        interfaces = new LinkedList<ExtractedInterface>();
-        enumerations = new LinkedList<ExtractedEnum>();
+        subpackages = new ArrayList<ExtractedPackage>();
+        classes = new ArrayList<ExtractedClass>();
+        interfaces = new ArrayList<ExtractedInterface>();
+        enumerations = new ArrayList<ExtractedEnum>();
+        types = new TypeView();
         root = false;
     }
 
@@ -34,6 +38,8 @@ public class ExtractedPackage extends ExtractedElement {
      */
     public void add(ExtractedPackage subpackage) {
         subpackages.add(subpackage);
+        subpackage.setParent(this);
+        updateTypeCount(subpackage.typeCount); // subpackage might not be empty
     }
 
     /**
@@ -47,7 +53,11 @@ public class ExtractedPackage extends ExtractedElement {
             interfaces.add((ExtractedInterface) type);
         } else if (type.getClass() == ExtractedEnum.class) {
             enumerations.add((ExtractedEnum) type);
+        } else {
+            return; // unknown kind of type
         }
+        type.setParent(this);
+        updateTypeCount(1);
     }
 
     /**
@@ -83,27 +93,29 @@ public class ExtractedPackage extends ExtractedElement {
     }
 
     /**
-     * accessor for the {@link ExtractedType}s (interfaces, classes and enumerations).
+     * Returns the amount of types of the package and all its subpackages. The amount is updated whenever a type or a
+     * subpackage is added, which makes this a constant time operation.
+     * @return the amount of types in the package tree.
+     */
+    public int getTypeCount() {
+        return typeCount;
+    }
+
+    /**
+     * accessor for the {@link ExtractedType}s (enumerations, classes and interfaces). The types are not copied, the
+     * returned list is an unmodifiable view which reflects later changes of the package.
      * @return the types.
      */
     public List<ExtractedType> getTypes() {
-        List<ExtractedType> types = new LinkedList<ExtractedType>(enumerations);
-        types.addAll(classes);
-        types.addAll(interfaces);
         return types;
     }
 
     /**
-     * Checks whether package is empty.
+     * Checks whether package is empty, which means neither the package nor its subpackages contain types.
      * @return true if the package is empty.
      */
     public boolean isEmpty() {
-        for (ExtractedPackage subpackage : subpackages) {
-            if (!subpackage.isEmpty()) {
-                return false;
-            }
-        }
-        return getTypes().isEmpty();
+        return typeCount == 0;
     }
 
     /**
@@ -139,8 +151,8 @@ public class ExtractedPackage extends ExtractedElement {
         if (!root) { // root cannot be deselected.
             super.setSelected(selected);
         }
-        getTypes().forEach(type -> type.setSelected(selected));
-        getSubpackages().forEach(subpackage -> subpackage.setSelected(selected));
+        types.forEach(type -> type.setSelected(selected));
+        subpackages.forEach(subpackage -> subpackage.setSelected(selected));
     }
 
     @Override
@@ -150,4 +162,33 @@ public class ExtractedPackage extends ExtractedElement {
         }
         return super.toString();
     }
+
+    /**
+     * Adds a difference to the type count of the package and all its super packages.
+     */
+    private void updateTypeCount(int difference) {
+        for (ExtractedPackage current = this; current != null; current = current.getParent()) {
+            current.typeCount += difference;
+        }
+    }
+
+    /**
+     * Unmodifiable view of the enumerations, classes and interfaces of the package, in this order.
+     */
+    private class TypeView extends AbstractList<ExtractedType> {
+        @Override
+        public ExtractedType get(int index) {
+            if (index >= 0 && index < enumerations.size()) {
+                return enumerations.get(index);
+            } else if (index >= enumerations.size() && index < enumerations.size() + classes.size()) {
+                return classes.get(index - enumerations.size());
+            }
+            return interfaces.get(index - enumerations.size() - classes.size()); // checks the upper bound
+        }
+
+        @Override
+        public int size() {
+            return enumerations.size() + classes.size() + interfaces.size();
+        }
+    }
 }
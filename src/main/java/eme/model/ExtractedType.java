@@ -12,7 +12,9 @@ import eme.model.datatypes.ExtractedTypeParameter;
  * @author Timur Saglam
  */
 public abstract class ExtractedType extends ExtractedElement {
+    private Runnable contentLoader;
     protected final List<ExtractedField> fields;
+    private Runnable loader;
     protected final List<ExtractedMethod> methods;
     protected String outerType;
     protected ExtractedDataType superClass;
@@ -71,6 +73,7 @@ public abstract class ExtractedType extends ExtractedElement {
      * @return the list of attributes.
      */
     public List<ExtractedField> getFields() {
+        load();
         return fields;
     }
 
@@ -79,6 +82,7 @@ public abstract class ExtractedType extends ExtractedElement {
      * @return the list of methods.
      */
     public List<ExtractedMethod> getMethods() {
+        load();
         return methods;
     }
 
@@ -95,6 +99,7 @@ public abstract class ExtractedType extends ExtractedElement {
      * @return the list of super interfaces.
      */
     public List<ExtractedDataType> getSuperInterfaces() {
+        load();
         return superInterfaces;
     }
 
@@ -117,6 +122,15 @@ public abstract class ExtractedType extends ExtractedElement {
         return result;
     }
 
+    /**
+     * Checks whether the content of the type (fields, methods, super interfaces and the type specific content) is
+     * extracted. This is only false for lazily extracted types whose content was not accessed yet.
+     * @return true if the content is extracted.
+     */
+    public boolean isLoaded() {
+        return loader == null;
+    }
+
     /**
      * Method checks whether the type is a inner type.
      * @return true if it is a inner type.
@@ -125,6 +139,30 @@ public abstract class ExtractedType extends ExtractedElement {
         return outerType != null;
     }
 
+    /**
+     * Releases the extracted content of a lazily extracted type to free memory. The content is extracted again with the
+     * loader of the type on the next access. Types without loader keep their content.
+     * @return true if the content was released.
+     */
+    public boolean release() {
+        if (contentLoader == null || loader != null) {
+            return false; // not lazy or not loaded
+        }
+        clearContent();
+        loader = contentLoader; // reload on next access
+        return true;
+    }
+
+    /**
+     * Sets a loader which extracts the content of the type on the first access of the content. This allows types of
+     * which only the header (name, kind, outer type, type parameters and super class) is extracted eagerly.
+     * @param loader is the loader of the content, or null if the content is already extracted.
+     */
+    public void setLoader(Runnable loader) {
+        this.loader = loader;
+        contentLoader = loader;
+    }
+
     /**
      * Mutator for the name of the types outer type.
      * @param outerType is the name.
@@ -140,4 +178,31 @@ public abstract class ExtractedType extends ExtractedElement {
     public void setTypeParameters(List<ExtractedTypeParameter> typeParameters) {
         this.typeParameters = typeParameters;
     }
-}
\ No newline at end of file
+
+    /**
+     * Extracts the content of the type with its loader if it was not extracted yet. Has to be called by every accessor of
+     * lazily extracted content.
+     */
+    protected void load() {
+        if (loader != null) {
+            Runnable currentLoader = loader;
+            loader = null; // prevents recursive loading through the accessors
+            try {
+                currentLoader.run();
+            } catch (RuntimeException exception) {
+                clearContent(); // no partial content
+                loader = currentLoader; // try again on next access
+                throw exception;
+            }
+        }
+    }
+
+    /**
+     * Removes the lazily extracted content of the type. Has to be extended by subclasses with additional content.
+     */
+    protected void clearContent() {
+        fields.clear();
+        methods.clear();
+        superInterfaces.clear();
+    }
+}
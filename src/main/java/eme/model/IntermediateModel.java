@@ -1,7 +1,11 @@
 package eme.model;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
@@ -13,9 +17,11 @@ import org.apache.log4j.Logger;
  */
 public class IntermediateModel {
     private static final Logger logger = LogManager.getLogger(IntermediateModel.class.getName());
+    private Function<String, ExtractedType> externalTypeResolver;
     private final Set<ExtractedType> externalTypes;
-    private final Set<ExtractedPackage> packages;
+    private final Map<String, ExtractedPackage> packages; // by full name
     private final String projectName;
+    private final Set<String> requestedExternalTypes;
     private ExtractedPackage rootPackage;
     private final Set<ExtractedType> types;
 
@@ -24,9 +30,10 @@ public class IntermediateModel {
      * @param projectName is the name of the project the model was extracted from.
      */
     public IntermediateModel(String projectName) {
-        packages = new LinkedHashSet<ExtractedPackage>();
+        packages = new LinkedHashMap<String, ExtractedPackage>();
         types = new LinkedHashSet<ExtractedType>();
         externalTypes = new LinkedHashSet<ExtractedType>();
+        requestedExternalTypes = new HashSet<String>();
         this.projectName = projectName;
     }
 
@@ -36,7 +43,7 @@ public class IntermediateModel {
      * @param newPackage is the new {@link ExtractedPackage} to add.
      */
     public void add(ExtractedPackage newPackage) {
-        if (packages.add(newPackage)) {
+        if (packages.putIfAbsent(newPackage.getFullName(), newPackage) == null) {
             if (rootPackage == null) { // if it is the first package
                 rootPackage = newPackage; // add as root
                 newPackage.setAsRoot(); // mark as root
@@ -99,13 +106,21 @@ public class IntermediateModel {
 
     /**
      * Returns the external {@link ExtractedType} of the intermediate model whose
-     * full name matches the given full name.
+     * full name matches the given full name. Unknown names are resolved once with
+     * the external type resolver of the model, if it has one.
      * @param fullName is the given full name.
      * @return the external {@link ExtractedType} with the matching name or null if
      * the name is not found.
      */
     public ExtractedType getExternalType(String fullName) {
-        return getTypeFrom(fullName, externalTypes);
+        ExtractedType type = getTypeFrom(fullName, externalTypes);
+        if (type == null && externalTypeResolver != null && requestedExternalTypes.add(fullName)) {
+            type = externalTypeResolver.apply(fullName); // resolve on demand
+            if (type != null) {
+                externalTypes.add(type);
+            }
+        }
+        return type;
     }
 
     /**
@@ -126,10 +141,9 @@ public class IntermediateModel {
      * in the model. It is explicitly used to find an existing package.
      */
     public ExtractedPackage getPackage(String fullName) {
-        for (ExtractedPackage aPackage : packages) { // for all packages
-            if (aPackage.getFullName().equals(fullName)) { // if parent
-                return aPackage; // can only have on parent
-            }
+        ExtractedPackage aPackage = packages.get(fullName);
+        if (aPackage != null) {
+            return aPackage;
         }
         throw new IllegalArgumentException("Could not find package " + fullName);
     }
@@ -173,13 +187,26 @@ public class IntermediateModel {
     }
 
     /**
-     * Prints the model.
+     * Prints a summary of the model. The full content of the model is only printed if the debug level is enabled.
      */
     public void print() {
         logger.info(toString());
-        logger.info("   with packages " + packages.toString());
-        logger.info("   with types " + types.toString());
-        logger.info("   with external types " + externalTypes.toString());
+        if (logger.isDebugEnabled()) { // full content only on debug level, can be very large
+            logger.debug("   with packages " + packages.values().toString());
+            logger.debug("   with types " + types.toString());
+            logger.debug("   with external types " + externalTypes.toString());
+        }
+    }
+
+    /**
+     * Sets a resolver for external types which are not known when they are
+     * requested. This is needed if the content of the types is extracted lazily,
+     * because then not all potential external types are known after the extraction.
+     * @param resolver resolves a full name to an external {@link ExtractedType} or
+     * returns null if there is no such type.
+     */
+    public void setExternalTypeResolver(Function<String, ExtractedType> resolver) {
+        externalTypeResolver = resolver;
     }
 
     /**
@@ -0,0 +1,105 @@
+package eme.model.datatypes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hash-consing factory for {@link ExtractedDataType}s. Structurally identical data types (same full name, array
+ * dimension, wild card status and generic arguments) are represented by one shared, immutable instance. Because the
+ * generic arguments are pooled themselves, they are compared by identity, which makes the lookup independent of the
+ * depth of the type tree.
+ * @author Timur Saglam
+ */
+public class DataTypePool {
+    private final Map<Key, ExtractedDataType> pool;
+
+    /**
+     * Basic constructor, creates an empty pool.
+     */
+    public DataTypePool() {
+        pool = new ConcurrentHashMap<Key, ExtractedDataType>();
+    }
+
+    /**
+     * Returns the shared {@link ExtractedDataType} for the given properties. Creates it if it does not exist yet. The
+     * returned instance can not be modified.
+     * @param fullName is the full name of the data type, like "java.lang.String", "java.util.list" and "char".
+     * @param arrayDimension is the amount of array dimensions, should be 0 if it is not an array.
+     * @param status is the {@link WildcardStatus} of the data type.
+     * @param genericArguments are the generic arguments, which have to be pooled data types.
+     * @return the shared {@link ExtractedDataType}.
+     */
+    public ExtractedDataType get(String fullName, int arrayDimension, WildcardStatus status, List<ExtractedDataType> genericArguments) {
+        Key key = new Key(fullName, arrayDimension, status, genericArguments);
+        return pool.computeIfAbsent(key, this::create);
+    }
+
+    /**
+     * Returns the amount of distinct data types in the pool.
+     * @return the amount of shared instances.
+     */
+    public int size() {
+        return pool.size();
+    }
+
+    /**
+     * Creates a new frozen {@link ExtractedDataType} from a key.
+     */
+    private ExtractedDataType create(Key key) {
+        ExtractedDataType dataType = new ExtractedDataType(key.fullName, key.arrayDimension);
+        dataType.setGenericArguments(key.genericArguments);
+        dataType.setWildcardStatus(key.status);
+        dataType.freeze();
+        return dataType;
+    }
+
+    /**
+     * Key of the pool, compares the generic arguments by identity.
+     */
+    private static final class Key {
+        private final int arrayDimension;
+        private final String fullName;
+        private final List<ExtractedDataType> genericArguments;
+        private final int hash;
+        private final WildcardStatus status;
+
+        Key(String fullName, int arrayDimension, WildcardStatus status, List<ExtractedDataType> genericArguments) {
+            this.fullName = fullName;
+            this.arrayDimension = arrayDimension;
+            this.status = status;
+            this.genericArguments = new ArrayList<ExtractedDataType>(genericArguments);
+            int result = fullName.hashCode();
+            result = 31 * result + arrayDimension;
+            result = 31 * result + status.hashCode();
+            for (ExtractedDataType argument : genericArguments) {
+                result = 31 * result + System.identityHashCode(argument);
+            }
+            hash = result;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            if (hash != other.hash || arrayDimension != other.arrayDimension || status != other.status || !fullName.equals(other.fullName)
+                    || genericArguments.size() != other.genericArguments.size()) {
+                return false;
+            }
+            for (int i = 0; i < genericArguments.size(); i++) {
+                if (genericArguments.get(i) != other.genericArguments.get(i)) { // pooled arguments, identity is enough
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
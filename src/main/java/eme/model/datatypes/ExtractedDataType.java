@@ -1,16 +1,19 @@
 package eme.model.datatypes;
 
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
 import eme.model.IntermediateModel;
 
 /**
- * Represents a data type in the {@link IntermediateModel}.
+ * Represents a data type in the {@link IntermediateModel}. Data types created by a {@link DataTypePool} are shared
+ * and frozen, which means they can not be modified.
  * @author Timur Saglam
  */
 public class ExtractedDataType {
     private final int arrayDimension;
+    private boolean frozen;
     private String fullTypeName;
     private List<ExtractedDataType> genericArguments;
     private String typeName;
@@ -31,6 +34,38 @@ public class ExtractedDataType {
         buildNames(); // build full and simple name
     }
 
+    /**
+     * Appends the type string of this {@link ExtractedDataType} to a
+     * {@link StringBuilder}. The generic arguments are appended recursively,
+     * wild cards with their bounds and array brackets after the generic
+     * arguments, e.g. "java.util.List<? extends java.lang.Number>[]".
+     * @param builder is the {@link StringBuilder}.
+     * @return the same {@link StringBuilder}, for chaining.
+     */
+    public StringBuilder appendTypeString(StringBuilder builder) {
+        if (wildcardStatus == WildcardStatus.UNBOUND) {
+            return builder.append('?');
+        } else if (wildcardStatus == WildcardStatus.UPPER_BOUND) {
+            builder.append("? extends ");
+        } else if (wildcardStatus == WildcardStatus.LOWER_BOUND) {
+            builder.append("? super ");
+        }
+        builder.append(getFullArrayType());
+        if (!genericArguments.isEmpty()) {
+            builder.append('<');
+            String separator = "";
+            for (ExtractedDataType argument : genericArguments) {
+                argument.appendTypeString(builder.append(separator));
+                separator = ", ";
+            }
+            builder.append('>');
+        }
+        for (int i = 0; i < arrayDimension; i++) {
+            builder.append("[]");
+        }
+        return builder;
+    }
+
     /**
      * accessor for the array dimension.
      * @return the array dimension, 0 if the type is not an array.
@@ -83,17 +118,10 @@ public class ExtractedDataType {
      * information about the data type and its generic arguments. For example
      * "Map<String, Object>".
      * @return the type string.
+     * @see #appendTypeString(StringBuilder)
      */
     public String getTypeString() {
-        String result = fullTypeName;
-        if (!genericArguments.isEmpty()) {
-            result += '<';
-            for (ExtractedDataType argument : genericArguments) {
-                result += argument.getFullType() + ", ";
-            }
-            result = result.substring(0, result.length() - 2) + '>';
-        }
-        return result;
+        return appendTypeString(new StringBuilder()).toString();
     }
 
     /**
@@ -112,6 +140,14 @@ public class ExtractedDataType {
         return arrayDimension > 0;
     }
 
+    /**
+     * Checks whether the data type is frozen, which means it is shared and can not be modified.
+     * @return true if it is frozen.
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
     /**
      * Checks whether the data type is a generic type.
      * @return true if it is generic.
@@ -142,6 +178,7 @@ public class ExtractedDataType {
      * @param genericArguments is the list of generic arguments.
      */
     public void setGenericArguments(List<ExtractedDataType> genericArguments) {
+        checkModifiable();
         this.genericArguments = genericArguments;
     }
 
@@ -150,12 +187,22 @@ public class ExtractedDataType {
      * @param status is the status to set.
      */
     public void setWildcardStatus(WildcardStatus status) {
+        checkModifiable();
         wildcardStatus = status;
     }
 
     @Override
     public String toString() {
-        return getClass().getSimpleName() + "(" + getTypeString() + ")";
+        return appendTypeString(new StringBuilder(getClass().getSimpleName()).append('(')).append(')').toString();
+    }
+
+    /**
+     * Freezes the data type, which makes it unmodifiable. This is used by the {@link DataTypePool} for shared
+     * instances.
+     */
+    void freeze() {
+        genericArguments = Collections.unmodifiableList(genericArguments);
+        frozen = true;
     }
 
     /**
@@ -170,4 +217,13 @@ public class ExtractedDataType {
             this.fullTypeName += "[]";
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Throws an exception if the data type is frozen.
+     */
+    private void checkModifiable() {
+        if (frozen) {
+            throw new IllegalStateException("Shared data types can not be modified: " + toString());
+        }
+    }
+}
@@ -76,6 +76,7 @@ public class ExtractedField extends ExtractedVariable {
 
     @Override
     public String toString() {
-        return getClass().getSimpleName() + "(" + modifier + " " + getTypeString() + " " + getIdentifier() + ")";
+        StringBuilder builder = new StringBuilder(getClass().getSimpleName()).append('(').append(modifier).append(' ');
+        return appendTypeString(builder).append(' ').append(getIdentifier()).append(')').toString();
     }
 }
\ No newline at end of file
@@ -31,6 +31,7 @@ public class ExtractedVariable extends ExtractedDataType {
 
     @Override
     public String toString() {
-        return getClass().getSimpleName() + "(" + getTypeString() + " " + identifier + ")";
+        StringBuilder builder = new StringBuilder(getClass().getSimpleName()).append('(');
+        return appendTypeString(builder).append(' ').append(identifier).append(')').toString();
     }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package eme.properties;
 
+import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -22,18 +24,25 @@ import org.osgi.framework.Bundle;
  */
 public class AbstractProperties<T extends ITextProperty, B extends IBinaryProperty> {
     private static final Logger logger = LogManager.getLogger(AbstractProperties.class.getName());
+    private final Class<B> binaryType;
+    private File file;
     private String fileComment;
     private URL fileURL;
     private Properties properties;
+    private final Class<T> textType;
 
     /**
      * Basic constructor. Loads the properties file, creates a new one if the file does not exist.
      * @param fileName is the name of the property file.
      * @param fileComment is the description in the property file.
      * @param bundleName is the symbolic name of the {@link Bundle}.
+     * @param textType is the class of the text property enumeration, which is needed for snapshots.
+     * @param binaryType is the class of the binary property enumeration, which is needed for snapshots.
      */
-    public AbstractProperties(String fileName, String fileComment, String bundleName) {
+    public AbstractProperties(String fileName, String fileComment, String bundleName, Class<T> textType, Class<B> binaryType) {
         this.fileComment = fileComment;
+        this.textType = textType;
+        this.binaryType = binaryType;
         Bundle bundle = Platform.getBundle(bundleName);
         if (bundle == null) {
             throw new IllegalArgumentException(
@@ -52,6 +61,30 @@ public class AbstractProperties<T extends ITextProperty, B extends IBinaryProper
         }
     }
 
+    /**
+     * Constructor for properties files outside of any {@link Bundle}, which allows using the properties without the
+     * Eclipse platform. Loads the properties file, uses the default values if the file does not exist.
+     * @param file is the property file.
+     * @param fileComment is the description in the property file.
+     * @param textType is the class of the text property enumeration, which is needed for snapshots.
+     * @param binaryType is the class of the binary property enumeration, which is needed for snapshots.
+     */
+    public AbstractProperties(File file, String fileComment, Class<T> textType, Class<B> binaryType) {
+        this.file = file;
+        this.fileComment = fileComment;
+        this.textType = textType;
+        this.binaryType = binaryType;
+        properties = new Properties();
+        if (file.exists()) {
+            try {
+                fileURL = file.toURI().toURL();
+                load();
+            } catch (IOException exception) {
+                logger.warn("Could not reach properties file.", exception);
+            }
+        }
+    }
+
     /**
      * Accessor method for binary properties.
      * @param property is the {@link IBinaryProperty}.
@@ -70,12 +103,23 @@ public class AbstractProperties<T extends ITextProperty, B extends IBinaryProper
         return properties.getProperty(property.getKey(), property.getDefaultValue());
     }
 
+    /**
+     * Discards all changes which were not saved and loads the settings from the properties file again.
+     */
+    public void reload() {
+        if (fileURL == null) {
+            properties = new Properties(); // no file, default values
+        } else {
+            load();
+        }
+    }
+
     /**
      * Saves the settings to the properties file.
      */
     public void save() {
         try {
-            OutputStream out = fileURL.openConnection().getOutputStream(); // create output stream
+            OutputStream out = file == null ? fileURL.openConnection().getOutputStream() : new FileOutputStream(file);
             properties.store(out, fileComment); // store with stream
             out.close(); // close stream
         } catch (FileNotFoundException exception) {
@@ -104,6 +148,15 @@ public class AbstractProperties<T extends ITextProperty, B extends IBinaryProper
         properties.setProperty(property.getKey(), value);
     }
 
+    /**
+     * Creates an immutable snapshot of the current values of all properties. Later changes of the properties do not
+     * affect the snapshot.
+     * @return the {@link PropertySnapshot}.
+     */
+    public PropertySnapshot<T, B> snapshot() {
+        return new PropertySnapshot<T, B>(this, textType.getEnumConstants(), binaryType.getEnumConstants());
+    }
+
     /**
      * Loads the settings from the properties file.
      */
@@ -30,7 +30,14 @@ public enum BinaryProperty implements IBinaryProperty {
     FIELD_MULTIPLICITIES("FieldMultiplicities", true),
     PARAMETER_MULTIPLICITIES("ParameterMultiplicities", true),
     RETURN_TYPE_MULTIPLICITIES("ReturnTypeMultiplicities", true),
-    CUSTOM_EXTRACTION_SCOPE("CustomExtractionScope", true);
+    CUSTOM_EXTRACTION_SCOPE("CustomExtractionScope", true),
+    SKIP_UNCHANGED("SkipUnchangedMetamodels", false),
+    SHARED_DATATYPES("SharedDataTypeTemplates", false),
+    DATATYPE_LIBRARY("SharedDataTypeLibrary", false),
+    BATCHED_RESOLUTION("BatchedExternalTypeResolution", false),
+    AST_EXTRACTION("ASTBasedExtraction", false),
+    STREAMING_EXTRACTION("StreamingExtraction", false),
+    PIPELINED_EXTRACTION("PipelinedExtraction", false);
 
     private final boolean defaultValue;
     private final String key;
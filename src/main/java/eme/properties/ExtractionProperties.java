@@ -1,5 +1,7 @@
 package eme.properties;
 
+import java.io.File;
+
 /**
  * This class manages the extraction properties in the user.properties file.
  * @author Timur Saglam
@@ -9,6 +11,16 @@ public class ExtractionProperties extends AbstractProperties<TextProperty, Binar
      * Basic constructor, sets the file name, file description and symbolic bundle name.
      */
     public ExtractionProperties() {
-        super("user.properties", "Use this file to configure the Ecore metamodel extraction.", "EcoreMetamodelExtraction");
+        super("user.properties", "Use this file to configure the Ecore metamodel extraction.", "EcoreMetamodelExtraction", TextProperty.class,
+                BinaryProperty.class);
+    }
+
+    /**
+     * Constructor for a properties file outside of the plug-in, which allows using the extraction without the Eclipse
+     * platform.
+     * @param file is the properties file.
+     */
+    public ExtractionProperties(File file) {
+        super(file, "Use this file to configure the Ecore metamodel extraction.", TextProperty.class, BinaryProperty.class);
     }
 }
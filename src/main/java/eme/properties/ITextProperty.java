@@ -16,4 +16,11 @@ public interface ITextProperty {
      * @return the key.
      */
     String getKey();
-}
\ No newline at end of file
+
+    /**
+     * Accessor for the position of the property in its enumeration. This is implemented by every enumeration and is used
+     * to store text values in a {@link PropertySnapshot}.
+     * @return the ordinal.
+     */
+    int ordinal();
+}
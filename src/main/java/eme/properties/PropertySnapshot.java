@@ -0,0 +1,52 @@
+package eme.properties;
+
+import java.util.BitSet;
+
+/**
+ * Immutable snapshot of the values of an {@link AbstractProperties} instance at a specific point in time. The binary
+ * properties are stored in a {@link BitSet} and the text properties as interned strings in an array, both indexed by
+ * the ordinals of the property enumerations. Therefore the snapshot can be read concurrently without any locking.
+ * @author Timur Saglam
+ * @param <T> is the text property enumeration.
+ * @param <B> is the binary property enumeration.
+ */
+public final class PropertySnapshot<T extends ITextProperty, B extends IBinaryProperty> {
+    private final BitSet enabled;
+    private final String[] texts;
+
+    /**
+     * Basic constructor, reads all values of the properties.
+     * @param properties is the {@link AbstractProperties} instance.
+     * @param textProperties are all values of the text property enumeration.
+     * @param binaryProperties are all values of the binary property enumeration.
+     */
+    PropertySnapshot(AbstractProperties<T, B> properties, T[] textProperties, B[] binaryProperties) {
+        enabled = new BitSet(binaryProperties.length);
+        for (B property : binaryProperties) {
+            enabled.set(property.ordinal(), properties.get(property));
+        }
+        texts = new String[textProperties.length];
+        for (T property : textProperties) {
+            String value = properties.get(property);
+            texts[property.ordinal()] = value == null ? null : value.intern();
+        }
+    }
+
+    /**
+     * Accessor method for binary properties.
+     * @param property is the {@link IBinaryProperty}.
+     * @return the boolean value of the property at the time of the snapshot.
+     */
+    public boolean get(B property) {
+        return enabled.get(property.ordinal());
+    }
+
+    /**
+     * Accessor method for text properties.
+     * @param property is the {@link ITextProperty}.
+     * @return the String value of the property at the time of the snapshot.
+     */
+    public String get(T property) {
+        return texts[property.ordinal()];
+    }
+}
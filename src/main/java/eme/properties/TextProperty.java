@@ -11,7 +11,9 @@ public enum TextProperty implements ITextProperty {
     ROOT_NAME("RootContainerName", "ROOT"),
     NESTED_TYPE_PACKAGE("NestedTypePackageSuffix", "InnerTypes"),
     PROJECT_SUFFIX("ProjectSuffix", "Model"),
-    SAVING_STRATEGY("SavingStrategy", "NewProject");
+    SAVING_STRATEGY("SavingStrategy", "NewProject"),
+    DATATYPE_LIBRARY_PATH("DataTypeLibraryPath", ""),
+    RESOLUTION_THREADS("ExternalTypeResolutionThreads", "1");
 
     private final String defaultValue;
     private final String key;
@@ -1,10 +1,15 @@
 package eme.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.jface.viewers.CheckStateChangedEvent;
 import org.eclipse.jface.viewers.CheckboxTreeViewer;
 import org.eclipse.jface.viewers.ICheckStateListener;
 
 import eme.model.ExtractedElement;
+import eme.model.ExtractedPackage;
+import eme.model.ExtractedType;
 import eme.model.IntermediateModel;
 
 /**
@@ -36,19 +41,42 @@ public class CheckStateListener implements ICheckStateListener {
     }
 
     /**
-     * Updates the selection of the intermediate model according to a {@link CheckStateChangedEvent}, if the checked element
-     * is not the root package.
+     * Adds an element and all its descendants to a list. This only walks the model, the tree items of the elements are
+     * looked up later, which is cheap for elements without items.
+     */
+    private void collectSubtree(ExtractedElement element, List<Object> elements) {
+        elements.add(element);
+        if (element instanceof ExtractedPackage) {
+            for (ExtractedPackage subpackage : ((ExtractedPackage) element).getSubpackages()) {
+                collectSubtree(subpackage, elements);
+            }
+            for (ExtractedType type : ((ExtractedPackage) element).getTypes()) {
+                elements.add(type);
+            }
+        }
+    }
+
+    /**
+     * Updates the selection of the intermediate model according to a {@link CheckStateChangedEvent}. The root package
+     * cannot be deselected, checking it toggles the selection of its content instead. Only the existing tree items of
+     * the changed elements are updated, the check states are provided by the selection of the model elements. Items of
+     * a virtual tree which are created later get their check state from the model.
      */
     private void updateSelection(ExtractedElement element, CheckStateChangedEvent event) {
-        element.setSelected(event.getChecked()); // set selected if checked and vice versa
+        boolean selected = event.getChecked();
         if (model.getRoot().equals(element)) { // if is root package
-            treeViewer.setSubtreeChecked(element, !rootChecked); // show selection for subtree with root state
             rootChecked = !rootChecked;
-            event.getCheckable().setChecked(element, true); // check the check box again
-        } else {
-            treeViewer.setSubtreeChecked(element, event.getChecked()); // show selection for subtree
+            selected = rootChecked; // toggle the content of the root
         }
-        treeViewer.refresh();
+        element.setSelected(selected); // set selected if checked and vice versa
+        List<Object> changedElements = new ArrayList<Object>();
+        collectSubtree(element, changedElements);
+        if (selected) { // selected elements need selected ancestors
+            element.selectAncestors();
+            for (ExtractedPackage ancestor = element.getParent(); ancestor != null; ancestor = ancestor.getParent()) {
+                changedElements.add(ancestor);
+            }
+        }
+        treeViewer.update(changedElements.toArray(), null); // instead of refreshing the whole tree
     }
-
 }
@@ -14,16 +14,16 @@ import org.eclipse.swt.widgets.Tree;
 import eme.model.ExtractedElement;
 import eme.model.IntermediateModel;
 import eme.ui.providers.CheckStateProvider;
+import eme.ui.providers.LazyTreeContentProvider;
 import eme.ui.providers.MainLabelProvider;
 import eme.ui.providers.SuperTypeLabelProvider;
-import eme.ui.providers.TreeContentProvider;
 import eme.ui.providers.TypeLabelProvider;
 
 /**
  * Selection window for disabling and enabling any {@link ExtractedElement} in a {@link IntermediateModel}.
  * @author Timur Saglam
  */
-public class SelectionWindow { // TODO (HIGH) enable all packages of a type when enabled!
+public class SelectionWindow {
     private static final int MIN_HEIGHT = 300;
     private static final int MIN_WIDTH = 400;
     private static final int HEIGHT = 768;
@@ -70,10 +70,11 @@ public class SelectionWindow { // TODO (HIGH) enable all packages of a type when
         shell.setSize(WIDTH, HEIGHT);
         shell.setText("Select extraction scope for project: " + model.getProjectName());
         shell.setLayout(new FillLayout(SWT.HORIZONTAL));
-        // Tree viewer:
-        CheckboxTreeViewer treeViewer = new CheckboxTreeViewer(shell, SWT.BORDER);
-        treeViewer.setAutoExpandLevel(3);
-        treeViewer.setContentProvider(new TreeContentProvider());
+        // Tree viewer, virtual to only create the visible items:
+        CheckboxTreeViewer treeViewer = new CheckboxTreeViewer(shell, SWT.BORDER | SWT.VIRTUAL);
+        treeViewer.setUseHashlookup(true); // fast mapping of elements to items
+        treeViewer.setAutoExpandLevel(2); // only the root package, deeper levels are created on demand
+        treeViewer.setContentProvider(new LazyTreeContentProvider(treeViewer));
         treeViewer.addCheckStateListener(new CheckStateListener(model, treeViewer));
         treeViewer.setCheckStateProvider(new CheckStateProvider());
         // Tree:
@@ -0,0 +1,83 @@
+package eme.ui.providers;
+
+import org.eclipse.jface.viewers.ILazyTreeContentProvider;
+import org.eclipse.jface.viewers.TreeViewer;
+
+import eme.model.ExtractedElement;
+import eme.model.ExtractedPackage;
+import eme.model.IntermediateModel;
+
+/**
+ * Lazy intermediate model tree content provider for virtual trees. Instead of providing full arrays of children, it
+ * only provides the child counts and the children which are actually shown. The children of a package are its
+ * subpackages followed by its types.
+ * @author Timur Saglam
+ */
+public class LazyTreeContentProvider implements ILazyTreeContentProvider {
+    private final TreeViewer viewer;
+
+    /**
+     * Basic constructor.
+     * @param viewer is the {@link TreeViewer} which uses the content provider, it has to be virtual.
+     */
+    public LazyTreeContentProvider(TreeViewer viewer) {
+        this.viewer = viewer;
+    }
+
+    @Override
+    public Object getParent(Object element) {
+        if (element instanceof ExtractedElement) {
+            return ((ExtractedElement) element).getParent(); // null for the root package
+        }
+        return null;
+    }
+
+    @Override
+    public void updateChildCount(Object element, int currentChildCount) {
+        int childCount = getChildCount(element);
+        if (childCount != currentChildCount) {
+            viewer.setChildCount(element, childCount);
+        }
+    }
+
+    @Override
+    public void updateElement(Object parent, int index) {
+        Object child = getChild(parent, index);
+        if (child != null) {
+            viewer.replace(parent, index, child);
+            updateChildCount(child, -1); // needed to show the expand symbol
+        }
+    }
+
+    /**
+     * Returns the child of a tree element at a specific index, or null if there is none.
+     */
+    private Object getChild(Object parent, int index) {
+        if (parent instanceof IntermediateModel) {
+            return ((IntermediateModel) parent).getRoot(); // root package is the only child
+        } else if (parent instanceof ExtractedPackage) {
+            ExtractedPackage extractedPackage = (ExtractedPackage) parent;
+            int subpackages = extractedPackage.getSubpackages().size();
+            if (index < subpackages) {
+                return extractedPackage.getSubpackages().get(index);
+            } else if (index - subpackages < extractedPackage.getTypes().size()) {
+                return extractedPackage.getTypes().get(index - subpackages);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the amount of children of a tree element. Packages without types have no children, even if they have
+     * empty subpackages.
+     */
+    private int getChildCount(Object element) {
+        if (element instanceof IntermediateModel) {
+            return 1; // root package
+        } else if (element instanceof ExtractedPackage && !((ExtractedPackage) element).isEmpty()) {
+            ExtractedPackage extractedPackage = (ExtractedPackage) element;
+            return extractedPackage.getSubpackages().size() + extractedPackage.getTypes().size();
+        }
+        return 0;
+    }
+}
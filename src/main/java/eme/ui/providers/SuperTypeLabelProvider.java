@@ -2,7 +2,6 @@ package eme.ui.providers;
 
 import java.util.LinkedList;
 import java.util.List;
-import java.util.StringJoiner;
 
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.widgets.Display;
@@ -52,11 +51,14 @@ public class SuperTypeLabelProvider extends GenericColumnLabelProvider<Extracted
 
     @Override
     public String getColumnText(ExtractedElement element) {
-        StringJoiner joiner = new StringJoiner(", ");
+        StringBuilder builder = new StringBuilder();
         for (ExtractedDataType superType : getSuperTypes(element)) {
-            joiner.add(superType.getFullType()); // add all super types to joiner
+            if (builder.length() > 0) {
+                builder.append(", ");
+            }
+            superType.appendTypeString(builder); // add all super types with their generic arguments
         }
-        return joiner.toString(); // return comma separated list of super types
+        return builder.toString(); // return comma separated list of super types
     }
 
     @Override